@@ -4,6 +4,7 @@ import com.massivecraft.creativegates.entity.MConf;
 import com.massivecraft.creativegates.entity.UGate;
 import com.massivecraft.creativegates.entity.UGateColl;
 import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import com.massivecraft.massivecore.mixin.MixinMessage;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.util.IdUtil;
@@ -35,7 +36,6 @@ import org.bukkit.event.entity.EntityPortalEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -194,15 +194,12 @@ public class EngineMain extends Engine
 	// -------------------------------------------- //
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void useGate(PlayerMoveEvent event)
+	public void useGate(EventMassiveCorePlayerMoveBlock event)
 	{
-		// If a player ...
+		// If a player is moving from one block to another ...
 		Player player = event.getPlayer();
 		if (MUtil.isntPlayer(player)) return;
 		
-		// ... is moving from one block to another ...
-		if (MUtil.isSameBlock(event)) return;
-		
 		// ... and there is a gate in the new block ...
 		UGate ugate = UGate.get(event.getTo());
 		if (ugate == null) return;
@@ -21,8 +21,11 @@ import com.massivecraft.factions.engine.EngineFlagSpawn;
 import com.massivecraft.factions.engine.EngineFlagZombiegrief;
 import com.massivecraft.factions.engine.EngineFly;
 import com.massivecraft.factions.engine.EngineLastActivity;
+import com.massivecraft.factions.engine.EngineLeashIndex;
+import com.massivecraft.factions.engine.EngineMapDescription;
 import com.massivecraft.factions.engine.EngineMotd;
 import com.massivecraft.factions.engine.EngineMoveChunk;
+import com.massivecraft.factions.engine.EngineOnlineIndex;
 import com.massivecraft.factions.engine.EnginePermBuild;
 import com.massivecraft.factions.engine.EnginePlayerData;
 import com.massivecraft.factions.engine.EnginePower;
@@ -30,6 +33,7 @@ import com.massivecraft.factions.engine.EngineSeeChunk;
 import com.massivecraft.factions.engine.EngineShow;
 import com.massivecraft.factions.engine.EngineTeleportHomeOnDeath;
 import com.massivecraft.factions.engine.EngineTerritoryShield;
+import com.massivecraft.factions.engine.EngineTop;
 import com.massivecraft.factions.engine.EngineVisualizations;
 import com.massivecraft.factions.entity.Board;
 import com.massivecraft.factions.entity.BoardColl;
@@ -226,8 +230,11 @@ public class Factions extends MassivePlugin
 			EngineFlagZombiegrief.class,
 			EngineFly.class,
 			EngineLastActivity.class,
+			EngineLeashIndex.class,
+			EngineMapDescription.class,
 			EngineMotd.class,
 			EngineMoveChunk.class,
+			EngineOnlineIndex.class,
 			EnginePermBuild.class,
 			EnginePlayerData.class,
 			EnginePower.class,
@@ -235,6 +242,7 @@ public class Factions extends MassivePlugin
 			EngineShow.class,
 			EngineTeleportHomeOnDeath.class,
 			EngineTerritoryShield.class,
+			EngineTop.class,
 			EngineVisualizations.class,
 			EngineEcon.class
 		);
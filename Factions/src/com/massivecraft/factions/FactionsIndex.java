@@ -13,6 +13,8 @@ import java.util.WeakHashMap;
 
 /**
  * This Index class contains the MPlayer <--> Faction index.
+ * It also keeps the online members of each faction so online checks need not filter all members.
+ * The online members are updated on membership changes and by EngineOnlineIndex when senders come and go.
  *
  * In the background it's powered by WeakHashMaps and all public methods are synchronized.
  * That should increase thread safety but no thread safety is actually guarranteed.
@@ -34,6 +36,12 @@ public class FactionsIndex
 	
 	private final Map<MPlayer, Faction> mplayer2faction;
 	private final Map<Faction, Set<MPlayer>> faction2mplayers;
+	private final Map<Faction, Set<MPlayer>> faction2online;
+	
+	// This id changes every time an mplayer joins or leaves a faction in the index.
+	// Caches built from the members of all factions (such as the rankings of EngineTop) compare it to detect that they are stale.
+	private volatile long changeId = 0;
+	public long getChangeId() { return this.changeId; }
 	
 	// -------------------------------------------- //
 	// CONSTRUCT
@@ -43,6 +51,7 @@ public class FactionsIndex
 	{
 		this.mplayer2faction = new WeakHashMap<>();
 		this.faction2mplayers = new WeakHashMapCreativeImpl();
+		this.faction2online = new WeakHashMapCreativeImpl();
 	}
 	
 	// -------------------------------------------- //
@@ -71,6 +80,16 @@ public class FactionsIndex
 		return new MassiveSet<>(this.faction2mplayers.get(faction));
 	}
 	
+	public synchronized Set<MPlayer> getMPlayersOnline(Faction faction)
+	{
+		return new MassiveSet<>(this.faction2online.get(faction));
+	}
+	
+	public synchronized int getMPlayersOnlineCount(Faction faction)
+	{
+		return this.faction2online.get(faction).size();
+	}
+	
 	// -------------------------------------------- //
 	// UPDATE
 	// -------------------------------------------- //
@@ -97,13 +116,18 @@ public class FactionsIndex
 			Faction factionIndexed = this.mplayer2faction.remove(mplayer);
 			if (factionIndexed != null)
 			{
+				this.changeId++;
 				faction2mplayers.get(factionIndexed).remove(mplayer);
+				faction2online.get(factionIndexed).remove(mplayer);
+				factionIndexed.changedLeader();
 			}
 			return;
 		}
 		
 		Faction factionActual = mplayer.getFaction();
 		Faction factionIndexed = this.getFaction(mplayer);
+		boolean online = mplayer.isOnline();
+		if (factionActual != factionIndexed) this.changeId++;
 		
 		Set<Faction> factions = new MassiveSet<>();
 		if (factionActual != null) factions.add(factionActual);
@@ -120,6 +144,17 @@ public class FactionsIndex
 			{
 				this.faction2mplayers.get(faction).remove(mplayer);
 			}
+			
+			if (connected && online)
+			{
+				this.faction2online.get(faction).add(mplayer);
+			}
+			else
+			{
+				this.faction2online.get(faction).remove(mplayer);
+			}
+			
+			faction.changedLeader();
 		}
 		
 		this.mplayer2faction.put(mplayer, factionActual);
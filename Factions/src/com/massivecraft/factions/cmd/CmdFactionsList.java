@@ -8,13 +8,12 @@ import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.massivecore.MassiveException;
 import com.massivecraft.massivecore.command.Parameter;
 import com.massivecraft.massivecore.pager.Pager;
+import com.massivecraft.massivecore.pager.PagerSourceTransform;
 import com.massivecraft.massivecore.pager.Stringifier;
 import com.massivecraft.massivecore.util.Txt;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 
-import java.util.List;
-
 public class CmdFactionsList extends FactionsCommand
 {
 	// -------------------------------------------- //
@@ -66,8 +65,8 @@ public class CmdFactionsList extends FactionsCommand
 		
 		Bukkit.getScheduler().runTaskAsynchronously(Factions.get(), () -> {
 			// Pager Items
-			final List<Faction> factions = FactionColl.get().getAll(ComparatorFactionList.get(sender));
-			pager.setItems(factions);
+			// Only the factions up to the page shown are sorted.
+			pager.setSource(new PagerSourceTransform<>(FactionColl.get().getAll(), ComparatorFactionList.get(sender)));
 
 			// Pager Message
 			pager.message();
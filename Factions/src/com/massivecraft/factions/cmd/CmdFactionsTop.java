@@ -1,8 +1,8 @@
 package com.massivecraft.factions.cmd;
 
 import com.massivecraft.factions.Factions;
+import com.massivecraft.factions.engine.EngineTop;
 import com.massivecraft.factions.entity.Faction;
-import com.massivecraft.factions.entity.FactionColl;
 import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.integration.Econ;
 import com.massivecraft.massivecore.MassiveException;
@@ -52,12 +52,13 @@ public class CmdFactionsTop extends FactionsCommand
 		Pager<Faction> pager = new Pager<>(this, "Faction top", page);
 		pager.setMsonifier((Stringifier<Faction>) (f, i) -> getValue(category, f, msender));
 
-		// NOTE: The faction list is quite slow and mostly thread safe.
+		// NOTE: The ranking is maintained by EngineTop and only recalculated when stale.
+		// Recalculating is still quite slow and mostly thread safe.
 		// We run it asynchronously to spare the primary server thread.
 
 		Bukkit.getScheduler().runTaskAsynchronously(Factions.get(), () -> {
 			// Pager Items
-			List<Faction> factions = FactionColl.get().getAll((f1, f2) -> (int) (getNumber(category, f2) - getNumber(category, f1)));
+			List<Faction> factions = EngineTop.get().getRanking(category);
 			pager.setItems(factions);
 
 			// Pager Message
@@ -65,18 +66,6 @@ public class CmdFactionsTop extends FactionsCommand
 		});
 	}
 
-	private static double getNumber(TopCategory category, Faction faction)
-	{
-		switch(category)
-		{
-			case MONEY: return Econ.getMoney(faction);
-			case MEMBERS: return faction.getMPlayers().size();
-			case TERRITORY: return faction.getLandCount();
-			case AGE: return faction.getAge();
-		}
-		throw new RuntimeException();
-	}
-
 	private static String getValue(TopCategory category, Faction faction, MPlayer mplayer)
 	{
 		String ret = Txt.parse("%s<i>: ", faction.getName(mplayer));
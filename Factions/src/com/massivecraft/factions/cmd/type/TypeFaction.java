@@ -6,6 +6,7 @@ import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.entity.MPlayerColl;
 import com.massivecraft.massivecore.MassiveCore;
 import com.massivecraft.massivecore.MassiveException;
+import com.massivecraft.massivecore.collections.CompletionIndex;
 import com.massivecraft.massivecore.command.type.TypeAbstract;
 import com.massivecraft.massivecore.comparator.ComparatorCaseInsensitive;
 import com.massivecraft.massivecore.util.IdUtil;
@@ -94,4 +95,10 @@ public class TypeFaction extends TypeAbstract<Faction>
 		return ret;
 	}
 	
+	@Override
+	public CompletionIndex getTabIndex(CommandSender sender)
+	{
+		return FactionColl.get().getNameIndex();
+	}
+	
 }
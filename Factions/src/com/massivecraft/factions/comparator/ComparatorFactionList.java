@@ -7,6 +7,8 @@ import com.massivecraft.massivecore.util.IdUtil;
 import org.bukkit.command.CommandSender;
 
 import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
 
 public class ComparatorFactionList extends ComparatorAbstract<Faction>
 {
@@ -16,6 +18,11 @@ public class ComparatorFactionList extends ComparatorAbstract<Faction>
 
 	private final WeakReference<CommandSender> watcher;
 	public CommandSender getWatcher() { return this.watcher.get(); }
+	
+	// The counts are calculated once per faction instead of once per comparison.
+	// Create a new comparator for each sort so the counts are fresh.
+	private final Map<Faction, Integer> onlineCounts = new HashMap<>();
+	private final Map<Faction, Integer> totalCounts = new HashMap<>();
 
 	// -------------------------------------------- //
 	// INSTANCE & CONSTRUCT
@@ -40,15 +47,29 @@ public class ComparatorFactionList extends ComparatorAbstract<Faction>
 		if (f2.isNone()) return 1;
 		
 		// Players Online
-		int ret = f2.getMPlayersWhereOnlineTo(this.getWatcher()).size() - f1.getMPlayersWhereOnlineTo(this.getWatcher()).size();
+		int ret = this.getOnlineCount(f2) - this.getOnlineCount(f1);
 		if (ret != 0) return ret;
 		
 		// Players Total
-		ret = f2.getMPlayers().size() - f1.getMPlayers().size();
+		ret = this.getTotalCount(f2) - this.getTotalCount(f1);
 		if (ret != 0) return ret;
 		
 		// Tie by Id
 		return ComparatorComparable.get().compare(f1.getId(), f2.getId());
 	}
+	
+	// -------------------------------------------- //
+	// COUNTS
+	// -------------------------------------------- //
+	
+	private int getOnlineCount(Faction faction)
+	{
+		return this.onlineCounts.computeIfAbsent(faction, f -> f.getMPlayersWhereOnlineTo(this.getWatcher()).size());
+	}
+	
+	private int getTotalCount(Faction faction)
+	{
+		return this.totalCounts.computeIfAbsent(faction, f -> f.getMPlayers().size());
+	}
 
 }
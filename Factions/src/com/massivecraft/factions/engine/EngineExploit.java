@@ -5,9 +5,9 @@ import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.util.EnumerationUtil;
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.collections.MassiveList;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import com.massivecraft.massivecore.mixin.MixinMessage;
 import com.massivecraft.massivecore.ps.PS;
-import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.Txt;
 
 import org.bukkit.Bukkit;
@@ -24,7 +24,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockFromToEvent;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.event.player.PlayerTeleportEvent.TeleportCause;
 import org.bukkit.inventory.ItemStack;
@@ -432,10 +431,10 @@ public class EngineExploit extends Engine
 	}
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void portalUpdate(PlayerMoveEvent event)
+	public void portalUpdate(EventMassiveCorePlayerMoveBlock event)
 	{
 		// If a player moves ...
-		if (!MConf.get().handleNetherPortalTrap || MUtil.isSameBlock(event)) return;
+		if (!MConf.get().handleNetherPortalTrap) return;
 		
 		Player player = event.getPlayer();
 		UUID uuid = player.getUniqueId();
@@ -3,6 +3,7 @@ package com.massivecraft.factions.engine;
 import com.massivecraft.factions.entity.BoardColl;
 import com.massivecraft.factions.entity.Faction;
 import com.massivecraft.factions.util.EnumerationUtil;
+import com.massivecraft.factions.util.TerritoryMemo;
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.ps.PS;
 import org.bukkit.Location;
@@ -87,7 +88,9 @@ public class EngineFlagExplosion extends Engine
 	public void blockExplosion(Location location, Cancellable cancellable, Collection<Block> blocks)
 	{
 		// Caching to speed things up.
+		// The blocks are usually spread over just a few chunks so the territory is looked up once per chunk.
 		Map<Faction, Boolean> faction2allowed = new HashMap<>();
+		TerritoryMemo territoryMemo = new TerritoryMemo();
 		
 		// Check the entity. Are explosions disabled there?
 		Faction faction = BoardColl.get().getFactionAt(PS.valueOf(location));
@@ -104,7 +107,7 @@ public class EngineFlagExplosion extends Engine
 		while (iterator.hasNext())
 		{
 			Block block = iterator.next();
-			faction = BoardColl.get().getFactionAt(PS.valueOf(block));
+			faction = territoryMemo.getFactionAt(block);
 			allowed = faction2allowed.get(faction);
 			if (allowed == null)
 			{
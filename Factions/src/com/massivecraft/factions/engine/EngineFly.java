@@ -12,6 +12,7 @@ import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.event.EventFactionsFlagChange;
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.MassiveException;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveChunk;
 import com.massivecraft.massivecore.event.EventMassiveCorePlayerUpdate;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.store.DriverFlatfile;
@@ -21,7 +22,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.io.File;
 
@@ -67,16 +67,15 @@ public class EngineFly extends Engine
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void moveChunkDetect(PlayerMoveEvent event)
+	public void moveChunkDetect(EventMassiveCorePlayerMoveChunk event)
 	{
 		// If the player is moving from one chunk to another ...
-		if (MUtil.isSameChunk(event)) return;
 		Player player = event.getPlayer();
 		if (MUtil.isntPlayer(player)) return;
 
 		// ... gather info on the player and the move ...
 		MPlayer mplayer = MPlayer.get(player);
-		PS chunkTo = PS.valueOf(event.getTo()).getChunk(true);
+		PS chunkTo = event.getChunkTo();
 
 		// ... and they are currently flying ...
 		if (!mplayer.isFlying()) return;
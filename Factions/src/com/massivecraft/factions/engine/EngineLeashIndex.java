@@ -0,0 +1,216 @@
+package com.massivecraft.factions.engine;
+
+import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.util.MUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityUnleashEvent;
+import org.bukkit.event.entity.PlayerLeashEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// This engine keeps track of the entities each player holds on a leash.
+// Then we don't have to scan the entities around a player each time they right click a fence.
+// The index may contain entities that are no longer leashed to the player, for example if a plugin removed them.
+// Such entries are checked and dropped when the player is looked up, so the index itself is never trusted blindly.
+public class EngineLeashIndex extends Engine
+{
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+
+	private static EngineLeashIndex i = new EngineLeashIndex();
+	public static EngineLeashIndex get() { return i; }
+
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	// NOTE: Entities are kept by their id rather than by reference so the entities themselves are never held on to.
+	private final Map<UUID, Set<UUID>> playerIdToEntityIds = new HashMap<>();
+	private final Map<UUID, UUID> entityIdToPlayerId = new HashMap<>();
+
+	// -------------------------------------------- //
+	// ACTIVE
+	// -------------------------------------------- //
+
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		this.playerIdToEntityIds.clear();
+		this.entityIdToPlayerId.clear();
+		if (!active) return;
+
+		// Entities may already be leashed, for example after a reload.
+		for (World world : Bukkit.getWorlds())
+		{
+			for (LivingEntity entity : world.getLivingEntities())
+			{
+				if (!entity.isLeashed()) continue;
+				Entity holder = entity.getLeashHolder();
+				if (MUtil.isntPlayer(holder)) continue;
+				this.add(holder.getUniqueId(), entity.getUniqueId());
+			}
+		}
+	}
+
+	// -------------------------------------------- //
+	// INDEX
+	// -------------------------------------------- //
+
+	private void add(UUID playerId, UUID entityId)
+	{
+		this.remove(entityId);
+		this.playerIdToEntityIds.computeIfAbsent(playerId, k -> new HashSet<>()).add(entityId);
+		this.entityIdToPlayerId.put(entityId, playerId);
+	}
+
+	private void remove(UUID entityId)
+	{
+		UUID playerId = this.entityIdToPlayerId.remove(entityId);
+		if (playerId == null) return;
+
+		Set<UUID> entityIds = this.playerIdToEntityIds.get(playerId);
+		if (entityIds == null) return;
+		entityIds.remove(entityId);
+		if (entityIds.isEmpty()) this.playerIdToEntityIds.remove(playerId);
+	}
+
+	private void removePlayer(UUID playerId)
+	{
+		Set<UUID> entityIds = this.playerIdToEntityIds.remove(playerId);
+		if (entityIds == null) return;
+		for (UUID entityId : entityIds)
+		{
+			this.entityIdToPlayerId.remove(entityId);
+		}
+	}
+
+	private static boolean isLeashedTo(Entity entity, Player player)
+	{
+		if (!(entity instanceof LivingEntity)) return false;
+		LivingEntity living = (LivingEntity) entity;
+		return living.isLeashed() && player.equals(living.getLeashHolder());
+	}
+
+	// -------------------------------------------- //
+	// PUBLIC
+	// -------------------------------------------- //
+
+	public boolean hasLeashedEntities(Player player)
+	{
+		if (player == null) throw new NullPointerException("player");
+
+		Set<UUID> entityIds = this.playerIdToEntityIds.get(player.getUniqueId());
+		if (entityIds == null) return false;
+
+		boolean ret = false;
+		Iterator<UUID> iterator = entityIds.iterator();
+		while (iterator.hasNext())
+		{
+			UUID entityId = iterator.next();
+			if (isLeashedTo(Bukkit.getEntity(entityId), player))
+			{
+				ret = true;
+				continue;
+			}
+			iterator.remove();
+			this.entityIdToPlayerId.remove(entityId);
+		}
+		if (entityIds.isEmpty()) this.playerIdToEntityIds.remove(player.getUniqueId());
+
+		return ret;
+	}
+
+	// -------------------------------------------- //
+	// UPDATE
+	// -------------------------------------------- //
+	// The leash events fire before the leash is changed.
+	// Entries added here are checked on lookup, so they are fine even if another plugin cancels at MONITOR.
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void update(PlayerLeashEntityEvent event)
+	{
+		UUID entityId = event.getEntity().getUniqueId();
+
+		// Tying leashed entities to a fence also fires this event, with the leash hitch as the holder.
+		Entity holder = event.getLeashHolder();
+		if (MUtil.isntPlayer(holder))
+		{
+			this.remove(entityId);
+			return;
+		}
+
+		this.add(holder.getUniqueId(), entityId);
+	}
+
+	// This also covers PlayerUnleashEntityEvent, which shares the handler list of its parent.
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void update(EntityUnleashEvent event)
+	{
+		this.remove(event.getEntity().getUniqueId());
+	}
+
+	// -------------------------------------------- //
+	// EXPIRE
+	// -------------------------------------------- //
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(EntityDeathEvent event)
+	{
+		this.remove(event.getEntity().getUniqueId());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(PlayerQuitEvent event)
+	{
+		this.removePlayer(event.getPlayer().getUniqueId());
+	}
+
+	// The index holds only a handful of entities so we look those up rather than asking the chunk for its entities.
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(ChunkUnloadEvent event)
+	{
+		if (this.entityIdToPlayerId.isEmpty()) return;
+		Chunk chunk = event.getChunk();
+
+		Iterator<UUID> iterator = this.entityIdToPlayerId.keySet().iterator();
+		while (iterator.hasNext())
+		{
+			UUID entityId = iterator.next();
+			Entity entity = Bukkit.getEntity(entityId);
+			if (entity != null && entity.isValid() && !isInChunk(entity, chunk)) continue;
+
+			UUID playerId = this.entityIdToPlayerId.get(entityId);
+			iterator.remove();
+
+			Set<UUID> entityIds = this.playerIdToEntityIds.get(playerId);
+			if (entityIds == null) continue;
+			entityIds.remove(entityId);
+			if (entityIds.isEmpty()) this.playerIdToEntityIds.remove(playerId);
+		}
+	}
+
+	private static boolean isInChunk(Entity entity, Chunk chunk)
+	{
+		Location location = entity.getLocation();
+		if (!chunk.getWorld().equals(location.getWorld())) return false;
+		return location.getBlockX() >> 4 == chunk.getX() && location.getBlockZ() >> 4 == chunk.getZ();
+	}
+
+}
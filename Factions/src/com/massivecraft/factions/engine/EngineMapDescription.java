@@ -0,0 +1,172 @@
+package com.massivecraft.factions.engine;
+
+import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.factions.entity.MPlayer;
+import com.massivecraft.factions.event.EventFactionsChunksChange;
+import com.massivecraft.factions.event.EventFactionsDescriptionChange;
+import com.massivecraft.factions.event.EventFactionsDisband;
+import com.massivecraft.factions.event.EventFactionsFlagChange;
+import com.massivecraft.factions.event.EventFactionsMembershipChange;
+import com.massivecraft.factions.event.EventFactionsMotdChange;
+import com.massivecraft.factions.event.EventFactionsNameChange;
+import com.massivecraft.factions.event.EventFactionsPowerChange;
+import com.massivecraft.factions.event.EventFactionsRankChange;
+import com.massivecraft.factions.integration.map.MapUtil;
+import com.massivecraft.massivecore.Engine;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// This engine caches the faction descriptions shown in the popups of the web maps.
+// A description is built again once one of the faction events it depends on fires.
+// Faction balances, faction age and the configuration can change without any Factions event so descriptions also expire.
+public class EngineMapDescription extends Engine
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	public static final long REFRESH_MILLIS = 60000L;
+	
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+	
+	private static EngineMapDescription i = new EngineMapDescription();
+	public static EngineMapDescription get() { return i; }
+	
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// The maps build their markers asynchronously so this is read from several threads.
+	private final Map<String, CachedDescription> factionIdToDescription = new ConcurrentHashMap<>();
+	
+	private static class CachedDescription
+	{
+		private final String html;
+		private final long millis;
+		
+		public CachedDescription(String html, long millis)
+		{
+			this.html = html;
+			this.millis = millis;
+		}
+	}
+	
+	// -------------------------------------------- //
+	// OVERRIDE
+	// -------------------------------------------- //
+	
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		this.setDirtyAll();
+	}
+	
+	// -------------------------------------------- //
+	// DESCRIPTION
+	// -------------------------------------------- //
+	
+	public String getDescriptionHtml(Faction faction)
+	{
+		if (faction == null) throw new NullPointerException("faction");
+		
+		long now = System.currentTimeMillis();
+		CachedDescription cached = this.factionIdToDescription.get(faction.getId());
+		if (cached != null && now - cached.millis < REFRESH_MILLIS) return cached.html;
+		
+		String ret = MapUtil.createFactionDescriptionHtml(faction);
+		this.factionIdToDescription.put(faction.getId(), new CachedDescription(ret, now));
+		return ret;
+	}
+	
+	public void setDirty(Faction faction)
+	{
+		if (faction == null) return;
+		this.factionIdToDescription.remove(faction.getId());
+	}
+	
+	public void setDirtyAll()
+	{
+		this.factionIdToDescription.clear();
+	}
+	
+	// The events fire before the change is made.
+	// We also forget the description next tick in case it was built again in between.
+	private void setDirtyNowAndSoon(Faction faction)
+	{
+		if (faction == null) return;
+		this.setDirty(faction);
+		Bukkit.getScheduler().runTask(this.getPlugin(), () -> this.setDirty(faction));
+	}
+	
+	// -------------------------------------------- //
+	// INVALIDATE
+	// -------------------------------------------- //
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsNameChange event)
+	{
+		this.setDirtyNowAndSoon(event.getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsDescriptionChange event)
+	{
+		this.setDirtyNowAndSoon(event.getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsMotdChange event)
+	{
+		this.setDirtyNowAndSoon(event.getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsFlagChange event)
+	{
+		this.setDirtyNowAndSoon(event.getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsMembershipChange event)
+	{
+		this.setDirtyNowAndSoon(event.getMPlayer().getFaction());
+		this.setDirtyNowAndSoon(event.getNewFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsRankChange event)
+	{
+		this.setDirtyNowAndSoon(event.getMPlayer().getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsPowerChange event)
+	{
+		MPlayer mplayer = event.getMPlayer();
+		if ( ! mplayer.hasFaction()) return;
+		this.setDirtyNowAndSoon(mplayer.getFaction());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsChunksChange event)
+	{
+		this.setDirtyNowAndSoon(event.getNewFaction());
+		for (Faction faction : event.getOldFactionChunks().keySet())
+		{
+			this.setDirtyNowAndSoon(faction);
+		}
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsDisband event)
+	{
+		this.factionIdToDescription.remove(event.getFactionId());
+	}
+	
+}
@@ -8,14 +8,16 @@ import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.util.AsciiMap;
 import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerLeave;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveChunk;
 import com.massivecraft.massivecore.mixin.MixinTitle;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.Txt;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.util.Collections;
 
@@ -33,39 +35,54 @@ public class EngineMoveChunk extends Engine
 	// -------------------------------------------- //
 
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void moveChunkDetect(PlayerMoveEvent event)
+	public void moveChunkDetect(EventMassiveCorePlayerMoveChunk event)
 	{
 		// If the player is moving from one chunk to another ...
-		if (MUtil.isSameChunk(event)) return;
 		Player player = event.getPlayer();
 		if (MUtil.isntPlayer(player)) return;
 
 		// ... gather info on the player and the move ...
 		MPlayer mplayer = MPlayer.get(player);
 
-		PS psFrom = PS.valueOf(event.getFrom());
-		PS psTo = PS.valueOf(event.getTo());
+		PS chunkFrom = event.getChunkFrom();
+		PS chunkTo = event.getChunkTo();
 
 		// ... send info onwards and try auto-claiming.
-		sendChunkInfo(mplayer, player, psFrom, psTo);
-		tryAutoClaim(mplayer, psTo);
+		sendChunkInfo(mplayer, player, chunkFrom, chunkTo, event.getTo());
+		tryAutoClaim(mplayer, chunkTo);
+	}
+
+	// -------------------------------------------- //
+	// LEAVE: FORGET MAP GRID
+	// -------------------------------------------- //
+
+	// Can't be cancelled
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void forgetMapGrid(EventMassiveCorePlayerLeave event)
+	{
+		Player player = event.getPlayer();
+		if (MUtil.isntPlayer(player)) return;
+
+		AsciiMap.forgetGrid(MPlayer.get(player));
 	}
 
 	// -------------------------------------------- //
 	// MOVE CHUNK: SEND CHUNK INFO
 	// -------------------------------------------- //
 
-	private static void sendChunkInfo(MPlayer mplayer, Player player, PS psFrom, PS psTo)
+	private static void sendChunkInfo(MPlayer mplayer, Player player, PS psFrom, PS psTo, Location locationTo)
 	{
-		sendAutoMapUpdate(mplayer, psTo);
+		sendAutoMapUpdate(mplayer, locationTo);
 		sendFactionTerritoryInfo(mplayer, player, psFrom, psTo);
 		sendTerritoryAccessMessage(mplayer, psFrom, psTo);
 	}
 	
-	private static void sendAutoMapUpdate(MPlayer mplayer, PS ps)
+	private static void sendAutoMapUpdate(MPlayer mplayer, Location location)
 	{
 		if (!mplayer.isMapAutoUpdating()) return;
-		AsciiMap map = new AsciiMap(mplayer, ps, false);
+		
+		// The map is rotated after the yaw so we need the full location here.
+		AsciiMap map = new AsciiMap(mplayer, PS.valueOf(location), false);
 		mplayer.message(map.render());
 	}
 	
@@ -0,0 +1,86 @@
+package com.massivecraft.factions.engine;
+
+import com.massivecraft.factions.FactionsIndex;
+import com.massivecraft.factions.entity.FactionColl;
+import com.massivecraft.factions.entity.MPlayer;
+import com.massivecraft.factions.entity.MPlayerColl;
+import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerLeave;
+import com.massivecraft.massivecore.event.EventMassiveCoreSenderRegister;
+import com.massivecraft.massivecore.event.EventMassiveCoreSenderUnregister;
+import com.massivecraft.massivecore.util.MUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+public class EngineOnlineIndex extends Engine
+{
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+	
+	private static EngineOnlineIndex i = new EngineOnlineIndex();
+	public static EngineOnlineIndex get() { return i; }
+	
+	// -------------------------------------------- //
+	// ACTIVE
+	// -------------------------------------------- //
+	
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		if (!active) return;
+		if (!MPlayerColl.get().isActive() || !FactionColl.get().isActive()) return;
+		
+		// Players may already be online, for example after a reload.
+		for (Player player : Bukkit.getOnlinePlayers())
+		{
+			update(player);
+		}
+	}
+	
+	// -------------------------------------------- //
+	// UPDATE ONLINE INDEX
+	// -------------------------------------------- //
+	// The presence of the sender is updated by MassiveCore before these run.
+	
+	public static void update(CommandSender sender)
+	{
+		if (MUtil.isntSender(sender)) return;
+		
+		MPlayer mplayer = MPlayerColl.get().get(sender, false);
+		if (mplayer == null) return;
+		
+		FactionsIndex.get().update(mplayer);
+	}
+	
+	// Can't be cancelled
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void update(PlayerJoinEvent event)
+	{
+		update(event.getPlayer());
+	}
+	
+	// Can't be cancelled
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void update(EventMassiveCorePlayerLeave event)
+	{
+		update(event.getPlayer());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void update(EventMassiveCoreSenderRegister event)
+	{
+		update(event.getSender());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void update(EventMassiveCoreSenderUnregister event)
+	{
+		update(event.getSender());
+	}
+	
+}
@@ -10,6 +10,7 @@ import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.MPerm;
 import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.util.EnumerationUtil;
+import com.massivecraft.factions.util.TerritoryMemo;
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.util.MUtil;
@@ -278,13 +279,10 @@ public class EnginePermBuild extends Engine
 
 		// Check if we're dealing with a lead/fence attachment or just regular item use
 		Material material = event.getMaterial();
-		boolean blockIsFence = block.getType().toString().endsWith("_FENCE");
+		boolean blockIsFence = EnumerationUtil.isMaterialFence(block.getType());
 		if (blockIsFence)
 		{
-			boolean playerHasLeashedEntities = player.getWorld().getNearbyEntities(player.getLocation(), 20, 20, 20).stream()
-				.filter(e -> e instanceof LivingEntity)
-				.map(e -> (LivingEntity) e)
-				.anyMatch(e -> e.isLeashed() && player.equals(e.getLeashHolder()));
+			boolean playerHasLeashedEntities = EngineLeashIndex.get().hasLeashedEntities(player);
 
 			// Make sure we don't run this twice (for both hands)
 			if (playerHasLeashedEntities && event.getHand() != EquipmentSlot.OFF_HAND)
@@ -711,7 +709,9 @@ public class EnginePermBuild extends Engine
 		// Is checking deactivated by MConf?
 		if ( ! MConf.get().handlePistonProtectionThroughDenyBuild) return;
 
-		Faction pistonFaction = BoardColl.get().getFactionAt(PS.valueOf(event.getBlock()));
+		// The moved blocks are usually in just one or two chunks so the territory is looked up once per chunk.
+		TerritoryMemo territoryMemo = new TerritoryMemo();
+		Faction pistonFaction = territoryMemo.getFactionAt(event.getBlock());
 
 		List<Block> blocks = event.getBlocks();
 
@@ -722,7 +722,7 @@ public class EnginePermBuild extends Engine
 			Block targetBlock = block.getRelative(event.getDirection());
 
 			// Members of a faction might not have build rights in their own territory, but pistons should still work regardless
-			Faction targetFaction = BoardColl.get().getFactionAt(PS.valueOf(targetBlock));
+			Faction targetFaction = territoryMemo.getFactionAt(targetBlock);
 			if (targetFaction == pistonFaction) continue;
 
 			// Perm check
@@ -739,7 +739,8 @@ public class EnginePermBuild extends Engine
 		// Is checking deactivated by MConf?
 		if ( ! MConf.get().handlePistonProtectionThroughDenyBuild) return;
 
-		Faction pistonFaction = BoardColl.get().getFactionAt(PS.valueOf(event.getBlock()));
+		TerritoryMemo territoryMemo = new TerritoryMemo();
+		Faction pistonFaction = territoryMemo.getFactionAt(event.getBlock());
 
 		List<Block> blocks = event.getBlocks();
 
@@ -750,7 +751,7 @@ public class EnginePermBuild extends Engine
 			if (block.isEmpty() || block.isLiquid()) return;
 
 			// Members of a faction might not have build rights in their own territory, but pistons should still work regardless
-			Faction targetFaction = BoardColl.get().getFactionAt(PS.valueOf(block));
+			Faction targetFaction = territoryMemo.getFactionAt(block);
 			if (targetFaction == pistonFaction) continue;
 
 			// Perm check
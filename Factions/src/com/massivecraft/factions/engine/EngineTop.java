@@ -0,0 +1,175 @@
+package com.massivecraft.factions.engine;
+
+import com.massivecraft.factions.FactionsIndex;
+import com.massivecraft.factions.TerritoryAccess;
+import com.massivecraft.factions.cmd.CmdFactionsTop.TopCategory;
+import com.massivecraft.factions.entity.Board;
+import com.massivecraft.factions.entity.BoardColl;
+import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.factions.entity.FactionColl;
+import com.massivecraft.factions.entity.MConf;
+import com.massivecraft.factions.integration.Econ;
+import com.massivecraft.massivecore.Engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+// This engine maintains the rankings shown by /f top.
+// Each ranking is calculated at most once per change to the data it depends on.
+// Every value is looked up once per faction when ranking, never once per comparison.
+// Changes are detected on read from the change ids of the FactionColl, the FactionsIndex and the boards.
+// Those are updated from the Coll hooks, so changes that fire no Factions event are covered as well.
+// Faction balances can change without any Factions event so the money ranking is also refreshed periodically.
+public class EngineTop extends Engine
+{
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+
+	private static EngineTop i = new EngineTop();
+	public static EngineTop get() { return i; }
+
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	private final Map<TopCategory, List<Faction>> rankings = new EnumMap<>(TopCategory.class);
+	private final Map<TopCategory, Long> rankingMillis = new EnumMap<>(TopCategory.class);
+	private final Map<TopCategory, Long> rankingChangeIds = new EnumMap<>(TopCategory.class);
+
+	// -------------------------------------------- //
+	// OVERRIDE
+	// -------------------------------------------- //
+
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		this.setDirtyAll();
+	}
+
+	// -------------------------------------------- //
+	// RANKING
+	// -------------------------------------------- //
+
+	// The returned list is unmodifiable and sorted with the highest value first.
+	// Slicing a page from it does not touch the factions or the economy.
+	public synchronized List<Faction> getRanking(TopCategory category)
+	{
+		if (category == null) throw new NullPointerException("category");
+
+		// Read the change id before ranking so a concurrent change can only make us stale, never wrong.
+		long now = System.currentTimeMillis();
+		long changeId = getChangeId(category);
+		List<Faction> ret = this.rankings.get(category);
+		if (ret != null && ! this.isExpired(category, now, changeId)) return ret;
+
+		ret = Collections.unmodifiableList(createRanking(category));
+		this.rankings.put(category, ret);
+		this.rankingMillis.put(category, now);
+		this.rankingChangeIds.put(category, changeId);
+		return ret;
+	}
+
+	private boolean isExpired(TopCategory category, long now, long changeId)
+	{
+		Long rankingChangeId = this.rankingChangeIds.get(category);
+		if (rankingChangeId == null || rankingChangeId != changeId) return true;
+
+		if (category != TopCategory.MONEY) return false;
+		Long millis = this.rankingMillis.get(category);
+		if (millis == null) return true;
+		return now - millis >= MConf.get().econTopMoneyRefreshMillis;
+	}
+
+	public synchronized void setDirty(TopCategory category)
+	{
+		this.rankings.remove(category);
+		this.rankingMillis.remove(category);
+		this.rankingChangeIds.remove(category);
+	}
+
+	public synchronized void setDirtyAll()
+	{
+		this.rankings.clear();
+		this.rankingMillis.clear();
+		this.rankingChangeIds.clear();
+	}
+
+	// The change ids only ever grow, so their sum changes whenever one of them does.
+	private static long getChangeId(TopCategory category)
+	{
+		long ret = FactionColl.get().getChangeId();
+		if (category == TopCategory.MEMBERS)
+		{
+			ret += FactionsIndex.get().getChangeId();
+		}
+		if (category == TopCategory.TERRITORY)
+		{
+			for (Board board : BoardColl.get().getAll())
+			{
+				ret += board.getChangeId();
+			}
+		}
+		return ret;
+	}
+
+	private static List<Faction> createRanking(TopCategory category)
+	{
+		Map<String, Integer> landCounts = (category == TopCategory.TERRITORY ? getLandCounts() : null);
+		return rank(FactionColl.get().getAll(), faction -> getNumber(category, faction, landCounts));
+	}
+
+	// Sorts highest first. The sort is stable so ties keep their collection order.
+	// Each value is calculated once up front, not once per comparison.
+	public static <T> List<T> rank(Collection<T> items, ToDoubleFunction<? super T> value)
+	{
+		if (items == null) throw new NullPointerException("items");
+		if (value == null) throw new NullPointerException("value");
+
+		List<T> ret = new ArrayList<>(items.size());
+		Map<T, Double> values = new HashMap<>(items.size() * 2);
+		for (T item : items)
+		{
+			ret.add(item);
+			values.put(item, value.applyAsDouble(item));
+		}
+
+		ret.sort((i1, i2) -> Double.compare(values.get(i2), values.get(i1)));
+		return ret;
+	}
+
+	private static double getNumber(TopCategory category, Faction faction, Map<String, Integer> landCounts)
+	{
+		switch(category)
+		{
+			case MONEY: return Econ.getMoney(faction);
+			case MEMBERS: return faction.getMPlayers().size();
+			case TERRITORY:
+				Integer landCount = landCounts.get(faction.getId());
+				return landCount == null ? 0 : landCount;
+			case AGE: return faction.getAge();
+		}
+		throw new RuntimeException();
+	}
+
+	// Counts the claimed chunks of all factions in a single pass over the boards.
+	private static Map<String, Integer> getLandCounts()
+	{
+		Map<String, Integer> ret = new HashMap<>();
+		for (Board board : BoardColl.get().getAll())
+		{
+			for (TerritoryAccess territoryAccess : board.getMapRaw().values())
+			{
+				ret.merge(territoryAccess.getHostFactionId(), 1, Integer::sum);
+			}
+		}
+		return ret;
+	}
+
+}
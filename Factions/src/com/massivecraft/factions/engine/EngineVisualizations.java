@@ -2,10 +2,9 @@ package com.massivecraft.factions.engine;
 
 import com.massivecraft.factions.util.VisualizeUtil;
 import com.massivecraft.massivecore.Engine;
-import com.massivecraft.massivecore.util.MUtil;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 public class EngineVisualizations extends Engine
 {
@@ -21,10 +20,8 @@ public class EngineVisualizations extends Engine
 	// -------------------------------------------- //
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void onPlayerMoveClearVisualizations(PlayerMoveEvent event)
+	public void onPlayerMoveClearVisualizations(EventMassiveCorePlayerMoveBlock event)
 	{
-		if (MUtil.isSameBlock(event)) return;
-		
 		VisualizeUtil.clear(event.getPlayer());
 	}
 
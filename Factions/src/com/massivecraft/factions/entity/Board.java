@@ -7,7 +7,9 @@ import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.store.Entity;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -36,6 +38,7 @@ public class Board extends Entity<Board> implements BoardInterface
 	public Board load(Board that)
 	{
 		this.map = that.map;
+		this.logChange(null);
 		
 		return this;
 	}
@@ -56,6 +59,40 @@ public class Board extends Entity<Board> implements BoardInterface
 	public Map<PS, TerritoryAccess> getMap() { return Collections.unmodifiableMap(this.map); }
 	public Map<PS, TerritoryAccess> getMapRaw() { return this.map; }
 	
+	// This id changes every time the territory on this board changes.
+	// Caches built from the board (such as the AsciiMapGrid) compare it to detect that they are stale.
+	private transient volatile long changeId = 0;
+	public long getChangeId() { return this.changeId; }
+	
+	// The chunks behind the most recent change ids, so such caches can refresh only those chunks.
+	// A null chunk means the whole board changed, for example when it was loaded from the database.
+	private static final transient int CHANGE_LOG_SIZE = 64;
+	private final transient PS[] changeLog = new PS[CHANGE_LOG_SIZE];
+	
+	private synchronized void logChange(PS chunk)
+	{
+		long changeId = this.changeId + 1;
+		this.changeLog[(int) (changeId % CHANGE_LOG_SIZE)] = chunk;
+		this.changeId = changeId;
+	}
+	
+	// Returns the chunks changed after the change id from and up to the change id to.
+	// Returns null if those are no longer known and the cache has to be built anew.
+	public synchronized List<PS> getChunksChanged(long from, long to)
+	{
+		if (from > to || to > this.changeId) return null;
+		if (this.changeId - from > CHANGE_LOG_SIZE) return null;
+		
+		List<PS> ret = new ArrayList<>((int) (to - from));
+		for (long changeId = from + 1; changeId <= to; changeId++)
+		{
+			PS chunk = this.changeLog[(int) (changeId % CHANGE_LOG_SIZE)];
+			if (chunk == null) return null;
+			ret.add(chunk);
+		}
+		return ret;
+	}
+	
 	// -------------------------------------------- //
 	// CONSTRUCT
 	// -------------------------------------------- //
@@ -109,6 +146,7 @@ public class Board extends Entity<Board> implements BoardInterface
 			this.map.put(ps, territoryAccess);
 		}
 		
+		this.logChange(ps);
 		this.changed();
 	}
 	
@@ -19,16 +19,12 @@ import com.massivecraft.massivecore.collections.MassiveMapDef;
 import com.massivecraft.massivecore.collections.MassiveSet;
 import com.massivecraft.massivecore.mixin.MixinMessage;
 import com.massivecraft.massivecore.money.Money;
-import com.massivecraft.massivecore.predicate.PredicateAnd;
 import com.massivecraft.massivecore.predicate.PredicateVisibleTo;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.store.Entity;
 import com.massivecraft.massivecore.store.EntityInternalMap;
-import com.massivecraft.massivecore.store.SenderColl;
-import com.massivecraft.massivecore.util.IdUtil;
 import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.Txt;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -45,6 +41,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class Faction extends Entity<Faction> implements FactionsParticipator, MPerm.MPermable
@@ -83,6 +80,7 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		this.money = that.money;
 		this.invitations.load(that.invitations);
 		this.ranks.load(that.ranks);
+		this.changedRanks();
 		this.votes.load(that.votes);
 		this.setRelationWishes(that.relationWishes);
 		this.setFlagIds(that.flags);
@@ -166,6 +164,13 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 	// The flag overrides are modifications to the default values.
 	// Null means default.
 	private MassiveMapDef<String, Boolean> flags = new MassiveMapDef<>();
+	
+	// The effective flag values already looked up, by flag ordinal.
+	// Every change of the flags counts up flagsChanges.
+	// A cache is only used while that count and the standards version of the MFlagColl are the ones it was made for.
+	// A lookup racing a change can therefore only store a cache that is never used, rather than undo the change.
+	private transient volatile FlagCache flagCache = FlagCache.EMPTY;
+	private final transient AtomicInteger flagsChanges = new AtomicInteger();
 
 	private Map<String, Set<String>> perms = this.createNewPermMap();
 
@@ -259,6 +264,9 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		// Apply
 		this.name = target;
 		
+		// Update the name index
+		if (this.attached()) FactionColl.get().updateNameIndex(this);
+		
 		// Mark as changed
 		this.changed();
 	}
@@ -744,26 +752,63 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 
 	public Rank getLeaderRank()
 	{
-		Rank ret = null;
-		for (Rank rank : this.getRanks().getAll())
-		{
-			if (ret != null && ret.isMoreThan(rank)) continue;
+		return this.getRankExtremes().getLeaderRank();
+	}
 
-			ret = rank;
-		}
+	public Rank getLowestRank()
+	{
+		return this.getRankExtremes().getLowestRank();
+	}
+
+	// CACHE
+
+	// The leader and lowest rank are asked for by permission checks, placeholders and every MPlayer without a rank.
+	// They are kept here and found again after a rank is attached or has its priority changed.
+	// A detached rank is noticed when the cache is used.
+	private transient volatile RankExtremes rankExtremes = null;
+
+	public void changedRanks()
+	{
+		this.rankExtremes = null;
+		this.changedLeader();
+	}
+
+	private RankExtremes getRankExtremes()
+	{
+		RankExtremes ret = this.rankExtremes;
+		if (ret != null && ret.isValid(this.getRanks())) return ret;
+
+		ret = new RankExtremes(this.getRanks());
+		this.rankExtremes = ret;
 		return ret;
 	}
 
-	public Rank getLowestRank()
+	private static class RankExtremes
 	{
-		Rank ret = null;
-		for (Rank rank : this.getRanks().getAll())
+		private final Rank leaderRank;
+		public Rank getLeaderRank() { return this.leaderRank; }
+
+		private final Rank lowestRank;
+		public Rank getLowestRank() { return this.lowestRank; }
+
+		public RankExtremes(EntityInternalMap<Rank> ranks)
 		{
-			if (ret != null && ret.isLessThan(rank)) continue;
+			Rank leaderRank = null;
+			Rank lowestRank = null;
+			for (Rank rank : ranks.getAll())
+			{
+				if (leaderRank == null || ! leaderRank.isMoreThan(rank)) leaderRank = rank;
+				if (lowestRank == null || ! lowestRank.isLessThan(rank)) lowestRank = rank;
+			}
+			this.leaderRank = leaderRank;
+			this.lowestRank = lowestRank;
+		}
 
-			ret = rank;
+		public boolean isValid(EntityInternalMap<Rank> ranks)
+		{
+			if (this.leaderRank == null) return ranks.isEmpty();
+			return this.leaderRank.getContainer() == ranks && this.lowestRank.getContainer() == ranks;
 		}
-		return ret;
 	}
 
 	// -------------------------------------------- //
@@ -917,6 +962,7 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		
 		// Apply
 		this.flags = new MassiveMapDef<>(target);
+		this.flagsChanges.incrementAndGet();
 		
 		// Mark as changed
 		this.changed();
@@ -941,6 +987,51 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 	{
 		if (flag == null) throw new NullPointerException("flag");
 		
+		// Only the first 32 ordinals fit in the bits.
+		int ordinal = flag.getOrdinal();
+		if (ordinal < 0 || ordinal >= 32) return this.getFlagUncached(flag);
+		
+		long cached = 1L << ordinal;
+		long value = 1L << (ordinal + 32);
+		
+		// The counts are read before the flags, so a change made meanwhile leaves this cache outdated.
+		int standardsVersion = MFlagColl.get().getStandardsVersion();
+		int flagsChanges = this.flagsChanges.get();
+		FlagCache cache = this.flagCache;
+		long bits = (cache.isCurrent(standardsVersion, flagsChanges) ? cache.bits : 0);
+		if ((bits & cached) != 0) return (bits & value) != 0;
+		
+		boolean ret = this.getFlagUncached(flag);
+		bits |= cached;
+		if (ret) bits |= value;
+		this.flagCache = new FlagCache(bits, standardsVersion, flagsChanges);
+		return ret;
+	}
+	
+	// The low 32 bits tell which ordinals are cached and the high 32 bits hold their values.
+	private static class FlagCache
+	{
+		private static final FlagCache EMPTY = new FlagCache(0, -1, -1);
+		
+		private final long bits;
+		private final int standardsVersion;
+		private final int flagsChanges;
+		
+		private FlagCache(long bits, int standardsVersion, int flagsChanges)
+		{
+			this.bits = bits;
+			this.standardsVersion = standardsVersion;
+			this.flagsChanges = flagsChanges;
+		}
+		
+		private boolean isCurrent(int standardsVersion, int flagsChanges)
+		{
+			return this.standardsVersion == standardsVersion && this.flagsChanges == flagsChanges;
+		}
+	}
+	
+	private boolean getFlagUncached(MFlag flag)
+	{
 		String flagId = flag.getId();
 		if (flagId == null) throw new NullPointerException("flagId");
 		
@@ -955,6 +1046,7 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		if (flagId == null) throw new NullPointerException("flagId");
 		
 		Boolean ret = this.flags.put(flagId, value);
+		this.flagsChanges.incrementAndGet();
 		if (ret == null || ret != value) this.changed();
 		return ret;
 	}
@@ -967,6 +1059,7 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		if (flagId == null) throw new NullPointerException("flagId");
 		
 		Boolean ret = this.flags.put(flagId, value);
+		this.flagsChanges.incrementAndGet();
 		if (ret == null || ret != value) this.changed();
 		return ret;
 	}
@@ -1378,12 +1471,16 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 	
 	public List<MPlayer> getMPlayersWhereOnline(boolean online)
 	{
-		return this.getMPlayersWhere(online ? SenderColl.PREDICATE_ONLINE : SenderColl.PREDICATE_OFFLINE);
+		if (online) return new MassiveList<>(FactionsIndex.get().getMPlayersOnline(this));
+		
+		List<MPlayer> ret = this.getMPlayers();
+		ret.removeAll(FactionsIndex.get().getMPlayersOnline(this));
+		return ret;
 	}
 
 	public List<MPlayer> getMPlayersWhereOnlineTo(Object senderObject)
 	{
-		return this.getMPlayersWhere(PredicateAnd.get(SenderColl.PREDICATE_ONLINE, PredicateVisibleTo.get(senderObject)));
+		return MUtil.transform(FactionsIndex.get().getMPlayersOnline(this), PredicateVisibleTo.get(senderObject));
 	}
 	
 	public List<MPlayer> getMPlayersWhereRank(Rank rank)
@@ -1391,11 +1488,30 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		return this.getMPlayersWhere(PredicateMPlayerRank.get(rank));
 	}
 	
+	// The leader is kept until the ranks or the members change.
+	// Even then the cached leader is used for as long as it is still a leader.
+	private transient volatile MPlayer leader = null;
+	private transient volatile boolean leaderKnown = false;
+	
+	public void changedLeader()
+	{
+		this.leaderKnown = false;
+	}
+	
 	public MPlayer getLeader()
 	{
+		if (this.leaderKnown)
+		{
+			MPlayer leader = this.leader;
+			if (leader == null) return null;
+			if (leader.attached() && leader.getFaction() == this && leader.getRank() == this.getLeaderRank()) return leader;
+		}
+		
 		List<MPlayer> ret = this.getMPlayersWhereRank(this.getLeaderRank());
-		if (ret.size() == 0) return null;
-		return ret.get(0);
+		MPlayer leader = (ret.size() == 0 ? null : ret.get(0));
+		this.leader = leader;
+		this.leaderKnown = true;
+		return leader;
 	}
 
 	public Set<String> getMPlayerIds()
@@ -1409,13 +1525,12 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		List<CommandSender> ret = new MassiveList<>();
 		
 		// Fill Ret
-		for (CommandSender sender : IdUtil.getLocalSenders())
+		// Online members on other servers have no local sender.
+		for (MPlayer mplayer : FactionsIndex.get().getMPlayersOnline(this))
 		{
+			CommandSender sender = mplayer.getSender();
 			if (MUtil.isntSender(sender)) continue;
 			
-			MPlayer mplayer = MPlayer.get(sender);
-			if (mplayer.getFaction() != this) continue;
-			
 			ret.add(sender);
 		}
 		
@@ -1429,13 +1544,11 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 		List<Player> ret = new MassiveList<>();
 		
 		// Fill Ret
-		for (Player player : Bukkit.getOnlinePlayers())
+		for (MPlayer mplayer : FactionsIndex.get().getMPlayersOnline(this))
 		{
+			Player player = mplayer.getPlayer();
 			if (MUtil.isntPlayer(player)) continue;
 			
-			MPlayer mplayer = MPlayer.get(player);
-			if (mplayer.getFaction() != this) continue;
-			
 			ret.add(player);
 		}
 		
@@ -1508,7 +1621,12 @@ public class Faction extends Entity<Faction> implements FactionsParticipator, MP
 
 	public boolean isAllMPlayersOffline()
 	{
-		return this.getMPlayersWhereOnline(true).size() == 0;
+		return FactionsIndex.get().getMPlayersOnlineCount(this) == 0;
+	}
+	
+	public int getMPlayersOnlineCount()
+	{
+		return FactionsIndex.get().getMPlayersOnlineCount(this);
 	}
 	
 	public boolean isAnyMPlayersOnline()
@@ -3,12 +3,16 @@ package com.massivecraft.factions.entity;
 import com.massivecraft.factions.Factions;
 import com.massivecraft.factions.Rel;
 import com.massivecraft.factions.util.MiscUtil;
+import com.massivecraft.massivecore.collections.CompletionIndex;
 import com.massivecraft.massivecore.collections.MassiveMap;
 import com.massivecraft.massivecore.store.Coll;
+import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.Txt;
+import org.bukkit.ChatColor;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +25,15 @@ public class FactionColl extends Coll<Faction>
 	
 	private static FactionColl i = new FactionColl();
 	public static FactionColl get() { return i; }
+	
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// This id changes every time a faction is attached or detached.
+	// Caches built from all factions (such as the rankings of EngineTop) compare it to detect that they are stale.
+	private volatile long changeId = 0;
+	public long getChangeId() { return this.changeId; }
 
 	// -------------------------------------------- //
 	// STACK TRACEABILITY
@@ -48,6 +61,22 @@ public class FactionColl extends Coll<Faction>
 		Factions.get().log("Activated FactionColl");
 	}
 	
+	@Override
+	public void postAttach(Faction faction, String id)
+	{
+		super.postAttach(faction, id);
+		this.updateNameIndex(faction);
+		this.changeId++;
+	}
+	
+	@Override
+	public void postDetach(Faction faction, String id)
+	{
+		super.postDetach(faction, id);
+		this.removeNameIndex(id);
+		this.changeId++;
+	}
+	
 	// -------------------------------------------- //
 	// SPECIAL FACTIONS
 	// -------------------------------------------- //
@@ -169,6 +198,45 @@ public class FactionColl extends Coll<Faction>
 		return faction;
 	}
 	
+	// -------------------------------------------- //
+	// NAME INDEX
+	// -------------------------------------------- //
+	// The names of all attached factions, stripped of color and distinct ignoring case like the old tab list.
+	// This is kept up to date on attach, detach and rename so tab completion doesn't have to scan every faction.
+	
+	private final CompletionIndex nameIndex = new CompletionIndex(true);
+	public CompletionIndex getNameIndex() { return this.nameIndex; }
+	
+	private final Map<String, String> idToIndexedName = new HashMap<>();
+	
+	public void updateNameIndex(Faction faction)
+	{
+		if (faction == null) throw new NullPointerException("faction");
+		
+		String id = faction.getId();
+		if (id == null) return;
+		
+		String name = faction.getName();
+		if (name != null) name = ChatColor.stripColor(name);
+		synchronized (this.nameIndex)
+		{
+			String before = (name == null ? this.idToIndexedName.remove(id) : this.idToIndexedName.put(id, name));
+			if (MUtil.equals(before, name)) return;
+			this.nameIndex.remove(before);
+			this.nameIndex.add(name);
+		}
+	}
+	
+	public void removeNameIndex(String id)
+	{
+		if (id == null) throw new NullPointerException("id");
+		
+		synchronized (this.nameIndex)
+		{
+			this.nameIndex.remove(this.idToIndexedName.remove(id));
+		}
+	}
+	
 	// -------------------------------------------- //
 	// NAME
 	// -------------------------------------------- //
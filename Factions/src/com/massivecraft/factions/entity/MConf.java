@@ -705,6 +705,16 @@ public class MConf extends Entity<MConf>
 	// Specify which worlds the WorldGuard Check can be used in
 	public WorldExceptionSet worldguardCheckWorldsEnabled = new WorldExceptionSet();
 
+	// -------------------------------------------- //
+	// INTEGRATION: PlaceholderAPI
+	// -------------------------------------------- //
+	
+	// For how long may a placeholder value be reused?
+	// Values are dropped right away when Factions changes the data they depend on.
+	// Faction balances can change outside of Factions so values are never reused for longer than this.
+	@EditorType(TypeMillisDiff.class)
+	public long placeholderCacheMillis = 1 * TimeUnit.MILLIS_PER_SECOND;
+
 	// -------------------------------------------- //
 	// INTEGRATION: ECONOMY
 	// -------------------------------------------- //
@@ -776,6 +786,11 @@ public class MConf extends Entity<MConf>
 	// WARNING: Once you have converted to the new money system there is no going back!
 	public boolean useNewMoneySystem = false;
 
+	// For how long may the money ranking shown by /f top be reused?
+	// Faction balances can change outside of Factions so this ranking is recalculated when it gets older than this.
+	@EditorType(TypeMillisDiff.class)
+	public long econTopMoneyRefreshMillis = 1 * TimeUnit.MILLIS_PER_MINUTE;
+
 	// -------------------------------------------- //
 	// INTEGRATION: MAP PLUGINS (Dynmap, BlueMap, etc.)
 	// -------------------------------------------- //
@@ -132,10 +132,14 @@ public class MFlag extends Entity<MFlag> implements Prioritized, Registerable, N
 
 	public static MFlag getCreative(int priority, String id, String name, String desc, String descYes, String descNo, boolean standard, boolean editable, boolean visible)
 	{
-		MFlag ret = MFlagColl.get().get(id, false);
+		MFlag ret = MFlagColl.get().getInterned(id);
+		if (ret != null) return ret;
+		
+		ret = MFlagColl.get().get(id, false);
 		if (ret != null)
 		{
 			ret.setRegistered(true);
+			MFlagColl.get().intern(id, ret);
 			return ret;
 		}
 		
@@ -143,6 +147,7 @@ public class MFlag extends Entity<MFlag> implements Prioritized, Registerable, N
 		MFlagColl.get().attach(ret, id);
 		ret.setRegistered(true);
 		ret.sync();
+		MFlagColl.get().intern(id, ret);
 		
 		return ret;
 	}
@@ -163,9 +168,24 @@ public class MFlag extends Entity<MFlag> implements Prioritized, Registerable, N
 		this.editable = that.editable;
 		this.visible = that.visible;
 		
+		MFlagColl.get().changedStandards();
+		
 		return this;
 	}
 	
+	@Override
+	public void postAttach(String id)
+	{
+		MFlagColl.get().changedStandards();
+	}
+	
+	@Override
+	public void postDetach(String id)
+	{
+		MFlagColl.get().unintern(this);
+		MFlagColl.get().changedStandards();
+	}
+	
 	// -------------------------------------------- //
 	// TRANSIENT FIELDS (Registered)
 	// -------------------------------------------- //
@@ -174,6 +194,18 @@ public class MFlag extends Entity<MFlag> implements Prioritized, Registerable, N
 	public boolean isRegistered() { return this.registered; }
 	public void setRegistered(boolean registered) { this.registered = registered; }
 	
+	// -------------------------------------------- //
+	// TRANSIENT FIELDS (Ordinal)
+	// -------------------------------------------- //
+	
+	// See MFlagColl#getOrdinal. It is -1 while the flag is not attached.
+	private transient int ordinal = -1;
+	public int getOrdinal()
+	{
+		if (this.ordinal < 0 && this.getId() != null) this.ordinal = MFlagColl.get().getOrdinal(this.getId());
+		return this.ordinal;
+	}
+	
 	// -------------------------------------------- //
 	// FIELDS
 	// -------------------------------------------- //
@@ -217,7 +249,7 @@ public class MFlag extends Entity<MFlag> implements Prioritized, Registerable, N
 	// Example: false (per default monsters do not spawn in faction territory)
 	private boolean standard = true;
 	public boolean isStandard() { return this.standard; }
-	public MFlag setStandard(boolean standard) { this.standard = standard; this.changed(); return this; }
+	public MFlag setStandard(boolean standard) { this.standard = standard; this.changed(); MFlagColl.get().changedStandards(); return this; }
 	
 	// Is this flag editable by players?
 	// With this we mean standard non administrator players.
@@ -4,6 +4,9 @@ import com.massivecraft.massivecore.store.Coll;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MFlagColl extends Coll<MFlag>
 {
@@ -40,6 +43,55 @@ public class MFlagColl extends Coll<MFlag>
 		MFlag.setupStandardFlags();
 	}
 	
+	// -------------------------------------------- //
+	// INTERNED
+	// -------------------------------------------- //
+	// The flags handed out by MFlag.getCreative are kept here by the id they were asked for.
+	// The standard flag getters are called for every event so they should skip the lowercasing id lookup.
+	
+	private final Map<String, MFlag> interned = new ConcurrentHashMap<>();
+	
+	public MFlag getInterned(String id)
+	{
+		return this.interned.get(id);
+	}
+	
+	public void intern(String id, MFlag mflag)
+	{
+		this.interned.put(id, mflag);
+	}
+	
+	public void unintern(MFlag mflag)
+	{
+		this.interned.values().removeIf(interned -> interned == mflag);
+	}
+	
+	// -------------------------------------------- //
+	// ORDINALS
+	// -------------------------------------------- //
+	// Each flag id gets a small number the first time it is asked for.
+	// The number stays the same for as long as the server runs, even if the flag is detached and attached again.
+	// Factions use them to cache their effective flag values in a bitset.
+	
+	private final Map<String, Integer> idToOrdinal = new ConcurrentHashMap<>();
+	private final AtomicInteger nextOrdinal = new AtomicInteger();
+	
+	public int getOrdinal(String id)
+	{
+		if (id == null) throw new NullPointerException("id");
+		return this.idToOrdinal.computeIfAbsent(id, key -> this.nextOrdinal.getAndIncrement());
+	}
+	
+	// -------------------------------------------- //
+	// STANDARDS VERSION
+	// -------------------------------------------- //
+	// Increased whenever a flag standard value may have changed.
+	// The cached flag values of factions are only used while this is the same as when they were cached.
+	
+	private volatile int standardsVersion = 0;
+	public int getStandardsVersion() { return this.standardsVersion; }
+	public void changedStandards() { this.standardsVersion++; }
+	
 	// -------------------------------------------- //
 	// EXTRAS
 	// -------------------------------------------- //
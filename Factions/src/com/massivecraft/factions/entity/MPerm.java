@@ -189,10 +189,14 @@ public class MPerm extends Entity<MPerm> implements Prioritized, Registerable, N
 	
 	public static MPerm getCreative(int priority, String id, String name, String desc, boolean territory, boolean editable, boolean visible)
 	{
-		MPerm ret = MPermColl.get().get(id, false);
+		MPerm ret = MPermColl.get().getInterned(id);
+		if (ret != null) return ret;
+		
+		ret = MPermColl.get().get(id, false);
 		if (ret != null)
 		{
 			ret.setRegistered(true);
+			MPermColl.get().intern(id, ret);
 			return ret;
 		}
 		
@@ -200,6 +204,7 @@ public class MPerm extends Entity<MPerm> implements Prioritized, Registerable, N
 		MPermColl.get().attach(ret, id);
 		ret.setRegistered(true);
 		ret.sync();
+		MPermColl.get().intern(id, ret);
 		
 		return ret;
 	}
@@ -221,6 +226,12 @@ public class MPerm extends Entity<MPerm> implements Prioritized, Registerable, N
 		return this;
 	}
 	
+	@Override
+	public void postDetach(String id)
+	{
+		MPermColl.get().unintern(this);
+	}
+	
 	// -------------------------------------------- //
 	// TRANSIENT FIELDS (Registered)
 	// -------------------------------------------- //
@@ -6,7 +6,9 @@ import com.massivecraft.massivecore.store.Modification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MPermColl extends Coll<MPerm>
 {
@@ -82,6 +84,29 @@ public class MPermColl extends Coll<MPerm>
 		this.initing = false;
 	}
 	
+	// -------------------------------------------- //
+	// INTERNED
+	// -------------------------------------------- //
+	// The perms handed out by MPerm.getCreative are kept here by the id they were asked for.
+	// The standard perm getters are called for every event so they should skip the lowercasing id lookup.
+	
+	private final Map<String, MPerm> interned = new ConcurrentHashMap<>();
+	
+	public MPerm getInterned(String id)
+	{
+		return this.interned.get(id);
+	}
+	
+	public void intern(String id, MPerm mperm)
+	{
+		this.interned.put(id, mperm);
+	}
+	
+	public void unintern(MPerm mperm)
+	{
+		this.interned.values().removeIf(interned -> interned == mperm);
+	}
+	
 	// -------------------------------------------- //
 	// EXTRAS
 	// -------------------------------------------- //
@@ -65,6 +65,7 @@ public class MPlayer extends SenderEntity<MPlayer> implements FactionsParticipat
 		this.setLastActivityMillis(that.lastActivityMillis);
 		this.setFactionId(that.factionId);
 		this.rankId = that.rankId;
+		this.getFaction().changedLeader();
 		this.setTitle(that.title);
 		this.setPowerBoost(that.powerBoost);
 		this.setPower(that.power);
@@ -244,6 +245,12 @@ public class MPlayer extends SenderEntity<MPlayer> implements FactionsParticipat
 		return this.shouldBeCleaned(now, this.lastActivityMillis);
 	}
 	
+	@Override
+	public long getCleanActivityMillis()
+	{
+		return this.lastActivityMillis;
+	}
+	
 	// -------------------------------------------- //
 	// FIELD: factionId
 	// -------------------------------------------- //
@@ -336,6 +343,7 @@ public class MPlayer extends SenderEntity<MPlayer> implements FactionsParticipat
 
 		// Apply
 		this.rankId = rankId;
+		this.getFaction().changedLeader();
 
 		// Mark as changed
 		this.changed();
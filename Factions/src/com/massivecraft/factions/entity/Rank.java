@@ -22,9 +22,17 @@ public class Rank extends EntityInternal<Rank> implements MPerm.MPermable
 		return this;
 	}
 
+	@Override
+	public void postAttach(String id)
+	{
+		this.changedRanks();
+	}
+
 	@Override
 	public void preDetach(String id)
 	{
+		this.changedRanks();
+
 		for (Faction f : FactionColl.get().getAll())
 		{
 			for (Entry<String, Set<String>> entry : f.getPerms().entrySet())
@@ -46,7 +54,7 @@ public class Rank extends EntityInternal<Rank> implements MPerm.MPermable
 
 	private int priority;
 	public int getPriority() { return this.priority; }
-	public void setPriority(int priority) { this.priority = priority; this.changed(); }
+	public void setPriority(int priority) { this.priority = priority; this.changed(); this.changedRanks(); }
 
 	private String prefix;
 	public String getPrefix() { return this.prefix; }
@@ -58,6 +66,16 @@ public class Rank extends EntityInternal<Rank> implements MPerm.MPermable
 		return (Faction) internalMap.getEntity();
 	}
 
+	// Lets the faction know its rank order may have changed.
+	// Ranks outside of a faction, such as the default ranks in the MConf, have no one to tell.
+	private void changedRanks()
+	{
+		if ( ! (this.getContainer() instanceof EntityInternalMap)) return;
+		EntityInternal<?> entity = ((EntityInternalMap<Rank>) this.getContainer()).getEntity();
+		if ( ! (entity instanceof Faction)) return;
+		((Faction) entity).changedRanks();
+	}
+
 	// -------------------------------------------- //
 	// CONSTRUCT
 	// -------------------------------------------- //
@@ -136,13 +154,9 @@ public class Rank extends EntityInternal<Rank> implements MPerm.MPermable
 
 	public boolean isLeader()
 	{
-		for (Rank otherRank : this.getContainer().getAll())
-		{
-			if (otherRank == this) continue;
-
-			if (otherRank.isMoreThan(this)) return false;
-		}
-		return true;
+		// The leader rank of the faction has the highest priority, so if it is not above us no rank is.
+		Rank leaderRank = this.getFaction().getLeaderRank();
+		return ! leaderRank.isMoreThan(this);
 	}
 
 	public Rank getRankAbove()
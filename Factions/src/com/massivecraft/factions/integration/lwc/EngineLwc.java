@@ -10,16 +10,26 @@ import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.factions.event.EventFactionsChunkChangeType;
 import com.massivecraft.factions.event.EventFactionsChunksChange;
 import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.collections.MassiveList;
+import com.massivecraft.massivecore.collections.MassiveSet;
 import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.util.IdUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 
 public class EngineLwc extends Engine
@@ -58,27 +68,26 @@ public class EngineLwc extends Engine
 	public void removeProtectionsOnChunkChange(Faction newFaction, EventFactionsChunkChangeType type, Set<PS> chunks)
 	{
 		// If we are supposed to clear at this chunk change type ...
-		Boolean remove = MConf.get().lwcRemoveOnChange.get(type);
-		if (remove == null) return;
-		if (remove == false) return;
+		if ( ! isRemoveOnChange(type)) return;
 		
 		// ... then remove for all other factions than the new one.
 		// First we wait one tick to make sure the chunk ownership changes have been applied.
 		// Then we remove the protections but we do it asynchronously to not lock the main thread.
-		for (PS chunk : chunks)
-		{
-			removeAlienProtectionsAsyncNextTick(chunk, newFaction);
-		}
+		removeAlienProtectionsAsyncNextTick(chunks, newFaction);
 	}
 	
 	public void removeProtectionsOnChunkChange(Faction newFaction, Map<EventFactionsChunkChangeType, Set<PS>> typeChunks)
 	{
+		// The chunks of all the change types we clear at are handled together in a single job.
+		Set<PS> chunks = new MassiveSet<>();
 		for (Entry<EventFactionsChunkChangeType, Set<PS>> typeChunk : typeChunks.entrySet())
 		{
-			final EventFactionsChunkChangeType type = typeChunk.getKey();
-			final Set<PS> chunks = typeChunk.getValue();
-			removeProtectionsOnChunkChange(newFaction, type, chunks);
+			if ( ! isRemoveOnChange(typeChunk.getKey())) continue;
+			chunks.addAll(typeChunk.getValue());
 		}
+		if (chunks.isEmpty()) return;
+		
+		removeAlienProtectionsAsyncNextTick(chunks, newFaction);
 	}
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -87,6 +96,13 @@ public class EngineLwc extends Engine
 		removeProtectionsOnChunkChange(event.getNewFaction(), event.getTypeChunks());
 	}
 	
+	private static boolean isRemoveOnChange(EventFactionsChunkChangeType type)
+	{
+		Boolean remove = MConf.get().lwcRemoveOnChange.get(type);
+		if (remove == null) return false;
+		return remove;
+	}
+	
 	// -------------------------------------------- //
 	// UTIL
 	// -------------------------------------------- //
@@ -96,42 +112,174 @@ public class EngineLwc extends Engine
 	// After looking through the source code of LWC I am also hopeful this is thread safe. 
 	public static List<Protection> getProtectionsInChunk(PS chunkPs)
 	{
-		final int xmin = chunkPs.getChunkX() * 16;
-		final int xmax = xmin + 15;
+		return getProtectionsInChunks(chunkPs.getWorld(), chunkPs.getChunkX(), chunkPs.getChunkZ(), chunkPs.getChunkX(), chunkPs.getChunkZ());
+	}
+	
+	// As with the method above: Thread safe and slow. Do run asynchronously.
+	// Neighbouring chunks are merged into rectangles and each rectangle is loaded with a single query.
+	public static List<Protection> getProtectionsInChunks(Collection<PS> chunks)
+	{
+		List<Protection> ret = new MassiveList<>();
+		for (Entry<String, List<int[]>> worldRectangles : getChunkRectangles(chunks).entrySet())
+		{
+			String world = worldRectangles.getKey();
+			for (int[] rectangle : worldRectangles.getValue())
+			{
+				ret.addAll(getProtectionsInChunks(world, rectangle[0], rectangle[1], rectangle[2], rectangle[3]));
+			}
+		}
+		return ret;
+	}
+	
+	private static List<Protection> getProtectionsInChunks(String world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ)
+	{
+		final int xmin = minChunkX * 16;
+		final int xmax = maxChunkX * 16 + 15;
 		
 		final int ymin = 0;
 		final int ymax = 255;
 		
-		final int zmin = chunkPs.getChunkZ() * 16;
-		final int zmax = zmin + 15;
+		final int zmin = minChunkZ * 16;
+		final int zmax = maxChunkZ * 16 + 15;
 		
 		PhysDB db = LWC.getInstance().getPhysicalDatabase();
-		return db.loadProtections(chunkPs.getWorld(), xmin, xmax, ymin, ymax, zmin, zmax);
+		return db.loadProtections(world, xmin, xmax, ymin, ymax, zmin, zmax);
 	}
 	
-	// As with the method above: Thread safe and slow. Do run asynchronously.
+	// Covers the chunks with rectangles of {minChunkX, minChunkZ, maxChunkX, maxChunkZ} per world.
+	// Each column of chunks is split into runs along z and runs that line up in neighbouring columns are joined.
+	// A filled square or rectangle of chunks thus becomes a single rectangle.
+	public static Map<String, List<int[]>> getChunkRectangles(Collection<PS> chunks)
+	{
+		// World --> Chunk X --> Chunk Zs
+		Map<String, SortedMap<Integer, SortedSet<Integer>>> worldColumns = new HashMap<>();
+		for (PS chunk : chunks)
+		{
+			worldColumns.computeIfAbsent(chunk.getWorld(), world -> new TreeMap<>()).computeIfAbsent(chunk.getChunkX(), x -> new TreeSet<>()).add(chunk.getChunkZ());
+		}
+		
+		Map<String, List<int[]>> ret = new HashMap<>();
+		for (Entry<String, SortedMap<Integer, SortedSet<Integer>>> entry : worldColumns.entrySet())
+		{
+			List<int[]> rectangles = new MassiveList<>();
+			
+			// Run --> The rectangle ending at the previous column with that run
+			Map<Long, int[]> open = new HashMap<>();
+			Integer previousX = null;
+			for (Entry<Integer, SortedSet<Integer>> column : entry.getValue().entrySet())
+			{
+				int x = column.getKey();
+				if (previousX == null || previousX != x - 1)
+				{
+					rectangles.addAll(open.values());
+					open.clear();
+				}
+				
+				Map<Long, int[]> next = new HashMap<>();
+				for (int[] run : getRuns(column.getValue()))
+				{
+					long key = ((long) run[0] << 32) | (run[1] & 0xFFFFFFFFL);
+					int[] rectangle = open.remove(key);
+					if (rectangle == null) rectangle = new int[]{x, run[0], x, run[1]};
+					rectangle[2] = x;
+					next.put(key, rectangle);
+				}
+				
+				// The rectangles that did not continue into this column are done.
+				rectangles.addAll(open.values());
+				open = next;
+				previousX = x;
+			}
+			rectangles.addAll(open.values());
+			
+			ret.put(entry.getKey(), rectangles);
+		}
+		return ret;
+	}
+	
+	// Splits sorted numbers into runs of {first, last} without gaps.
+	private static List<int[]> getRuns(SortedSet<Integer> numbers)
+	{
+		List<int[]> ret = new MassiveList<>();
+		int[] run = null;
+		for (int number : numbers)
+		{
+			if (run != null && run[1] == number - 1)
+			{
+				run[1] = number;
+				continue;
+			}
+			run = new int[]{number, number};
+			ret.add(run);
+		}
+		return ret;
+	}
+	
+	// As with the methods above: Thread safe and slow. Do run asynchronously.
 	public static void removeAlienProtectionsRaw(PS chunkPs, Faction faction)
 	{
-		List<MPlayer> nonAliens = faction.getMPlayers();
-		for (Protection protection : getProtectionsInChunk(chunkPs))
+		removeAlienProtectionsRaw(Collections.singleton(chunkPs), getMemberIds(faction));
+	}
+	
+	public static void removeAlienProtectionsRaw(Collection<PS> chunks, Set<String> nonAlienIds)
+	{
+		// NOTE: The LWC protection owner is still the name and not the UUID. For that reason we must convert it.
+		// Most protections in an area belong to a few owners so each owner is only converted once.
+		Map<String, Boolean> ownerToAlien = new HashMap<>();
+		for (Protection protection : getProtectionsInChunks(chunks))
 		{
-			// NOTE: The LWC protection owner is still the name and not the UUID. For that reason we must convert it. 
 			String ownerName = protection.getOwner();
-			String ownerId = IdUtil.getId(ownerName);
-			MPlayer owner = MPlayer.get(ownerId);
-			if (nonAliens.contains(owner)) continue;
+			if (ownerName == null) continue;
+			
+			Boolean alien = ownerToAlien.get(ownerName);
+			if (alien == null)
+			{
+				String ownerId = IdUtil.getId(ownerName);
+				
+				// We don't know who this is so we leave it alone.
+				if (ownerId == null) continue;
+				
+				alien = ! nonAlienIds.contains(ownerId);
+				ownerToAlien.put(ownerName, alien);
+			}
+			
+			if ( ! alien) continue;
 			protection.remove();
 		}
 	}
 	
+	public static Set<String> getMemberIds(Faction faction)
+	{
+		Set<String> ret = new HashSet<>();
+		for (MPlayer mplayer : faction.getMPlayers())
+		{
+			ret.add(mplayer.getId());
+		}
+		return ret;
+	}
+	
 	public static void removeAlienProtectionsAsync(final PS chunkPs, final Faction faction)
 	{
-		Bukkit.getScheduler().runTaskAsynchronously(Factions.get(), () -> removeAlienProtectionsRaw(chunkPs, faction));
+		removeAlienProtectionsAsync(Collections.singleton(chunkPs), faction);
+	}
+	
+	public static void removeAlienProtectionsAsync(final Collection<PS> chunks, final Faction faction)
+	{
+		// The members are looked up before going async so the faction is only read from the main thread.
+		final List<PS> chunksCopy = new MassiveList<>(chunks);
+		final Set<String> nonAlienIds = getMemberIds(faction);
+		Bukkit.getScheduler().runTaskAsynchronously(Factions.get(), () -> removeAlienProtectionsRaw(chunksCopy, nonAlienIds));
 	}
 	
 	public static void removeAlienProtectionsAsyncNextTick(final PS chunkPs, final Faction faction)
 	{
-		Bukkit.getScheduler().runTaskLater(Factions.get(), () -> removeAlienProtectionsAsync(chunkPs, faction), 0);
+		removeAlienProtectionsAsyncNextTick(Collections.singleton(chunkPs), faction);
+	}
+	
+	public static void removeAlienProtectionsAsyncNextTick(final Collection<PS> chunks, final Faction faction)
+	{
+		final List<PS> chunksCopy = new MassiveList<>(chunks);
+		Bukkit.getScheduler().runTaskLater(Factions.get(), () -> removeAlienProtectionsAsync(chunksCopy, faction), 0);
 	}
 	
 }
@@ -95,4 +95,28 @@ public class MapMarker
 		this.iconName = iconName;
 		this.description = description;
 	}
+
+	// -------------------------------------------- //
+	// CONTENT HASH
+	// -------------------------------------------- //
+
+	/**
+	 * Gets a hash of everything this marker shows on a map: id, label, location, icon and description.
+	 * Markers with an unchanged content hash need not be written again.
+	 *
+	 * @return 64-bit content hash
+	 */
+	public long getContentHash()
+	{
+		long ret = MapUtil.HASH_START;
+		ret = MapUtil.hash(ret, id);
+		ret = MapUtil.hash(ret, label);
+		ret = MapUtil.hash(ret, world);
+		ret = MapUtil.hash(ret, x);
+		ret = MapUtil.hash(ret, y);
+		ret = MapUtil.hash(ret, z);
+		ret = MapUtil.hash(ret, iconName);
+		ret = MapUtil.hash(ret, description);
+		return ret;
+	}
 }
@@ -0,0 +1,123 @@
+package com.massivecraft.factions.integration.map;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * The content hash of each marker as it was last written to one marker set or layer of a map plugin.
+ *
+ * <p>
+ * The map engines rebuild all marker values every run. Writing every one of them to the map plugin
+ * on the main thread is costly with many factions, and most of them did not change since the last run.
+ * With the hashes only markers that were added, changed or removed are touched.
+ * </p>
+ *
+ * <p>
+ * Hold one instance per marker set or layer, and drop it when that set or layer is removed or recreated.
+ * Not thread safe; use from the main thread together with the map plugin API.
+ * </p>
+ */
+public class MapMarkerHashes
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	private final Map<String, Long> markerIdToHash = new HashMap<>();
+
+	// -------------------------------------------- //
+	// FORGET
+	// -------------------------------------------- //
+
+	/**
+	 * Forgets the markers that are no longer present in the map plugin (e.g. deleted by someone else or after a reload)
+	 * so they are written again on the next {@link #apply}.
+	 *
+	 * @param markerIds The ids of the markers currently present
+	 */
+	public void retainAll(Collection<String> markerIds)
+	{
+		this.markerIdToHash.keySet().retainAll(markerIds);
+	}
+
+	/**
+	 * Like {@link #retainAll(Collection)} for map plugins that are asked about one marker at a time.
+	 *
+	 * @param present Tells if the marker with the given id is currently present
+	 */
+	public void retainIf(Predicate<String> present)
+	{
+		this.markerIdToHash.keySet().removeIf(present.negate());
+	}
+
+	/**
+	 * Forgets all markers so every marker is written on the next {@link #apply}.
+	 */
+	public void clear()
+	{
+		this.markerIdToHash.clear();
+	}
+
+	// -------------------------------------------- //
+	// APPLY
+	// -------------------------------------------- //
+
+	/**
+	 * Applies the wanted markers, touching only what changed since the last call.
+	 *
+	 * <p>
+	 * Markers written earlier that are no longer wanted are passed to the remover.
+	 * Wanted markers that are new or whose content hash changed are passed to the writer.
+	 * A writer returning false is not remembered, so the marker is written again next time.
+	 * </p>
+	 *
+	 * @param wanted  Marker id to marker value for all markers that should be present
+	 * @param hasher  Calculates the content hash of a marker value
+	 * @param writer  Creates or updates a marker in the map plugin; returns false on failure
+	 * @param remover Removes a marker from the map plugin by id
+	 * @return The number of markers written
+	 */
+	public <T> int apply(Map<String, T> wanted, ToLongFunction<? super T> hasher, BiPredicate<String, ? super T> writer, Consumer<String> remover)
+	{
+		// Remove
+		Iterator<String> iterator = this.markerIdToHash.keySet().iterator();
+		while (iterator.hasNext())
+		{
+			String markerId = iterator.next();
+			if (wanted.containsKey(markerId)) continue;
+			remover.accept(markerId);
+			iterator.remove();
+		}
+
+		// Write
+		int ret = 0;
+		for (Entry<String, T> entry : wanted.entrySet())
+		{
+			String markerId = entry.getKey();
+			T value = entry.getValue();
+
+			long hash = hasher.applyAsLong(value);
+			Long applied = this.markerIdToHash.get(markerId);
+			if (applied != null && applied == hash) continue;
+
+			ret++;
+			if (writer.test(markerId, value))
+			{
+				this.markerIdToHash.put(markerId, hash);
+			}
+			else
+			{
+				this.markerIdToHash.remove(markerId);
+			}
+		}
+		return ret;
+	}
+
+}
@@ -75,4 +75,30 @@ public class MapTerritoryData
 		this.holes = holes == null || holes.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(holes);
 		this.style = style;
 	}
+
+	// -------------------------------------------- //
+	// CONTENT HASH
+	// -------------------------------------------- //
+
+	/**
+	 * Gets a hash of everything this territory shows on a map: label, world, description, corners and resolved style.
+	 * Markers with an unchanged content hash need not be written again.
+	 *
+	 * @return 64-bit content hash
+	 */
+	public long getContentHash()
+	{
+		long ret = MapUtil.HASH_START;
+		ret = MapUtil.hash(ret, label);
+		ret = MapUtil.hash(ret, world);
+		ret = MapUtil.hash(ret, description);
+		ret = MapUtil.hash(ret, outer);
+		ret = MapUtil.hash(ret, holes.size());
+		for (List<PS> hole : holes)
+		{
+			ret = MapUtil.hash(ret, hole);
+		}
+		ret = MapUtil.hash(ret, style);
+		return ret;
+	}
 }
@@ -1,5 +1,6 @@
 package com.massivecraft.factions.integration.map;
 
+import com.massivecraft.factions.engine.EngineMapDescription;
 import com.massivecraft.factions.entity.Faction;
 import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.MFlag;
@@ -8,6 +9,7 @@ import com.massivecraft.factions.integration.Econ;
 import com.massivecraft.massivecore.apachecommons.StringEscapeUtils;
 import com.massivecraft.massivecore.collections.MassiveList;
 import com.massivecraft.massivecore.money.Money;
+import com.massivecraft.massivecore.ps.PS;
 import com.massivecraft.massivecore.util.TimeDiffUtil;
 import com.massivecraft.massivecore.util.TimeUnit;
 import com.massivecraft.massivecore.util.Txt;
@@ -31,7 +33,8 @@ import java.util.stream.Collectors;
  * <ul>
  * <li>Default line and fill colors from {@link MConf} (mapDefaultLineColor, mapDefaultFillColor, defaultFactionPrimaryColor, defaultFactionSecondaryColor)</li>
  * <li>HTML formatting for description popups (tables, player lists, boolean colors, placeholder replacement)</li>
- * <li>Building the full faction description HTML from {@link MConf#mapDescriptionWindowFormat} ({@link #getFactionDescriptionHtml})</li>
+ * <li>Building the full faction description HTML from {@link MConf#mapDescriptionWindowFormat} ({@link #getFactionDescriptionHtml}, cached by {@link EngineMapDescription})</li>
+ * <li>Content hashes used by the engines to skip markers that did not change ({@link #hash(long, long)})</li>
  * <li>Faction visibility checks using shared {@link MConf#mapVisibleFactions} and {@link MConf#mapHiddenFactions}</li>
  * </ul>
  * </p>
@@ -217,16 +220,30 @@ public final class MapUtil
 		return ret.replace(target, replace);
 	}
 
+	/**
+	 * Gets the HTML description for a faction for use in map integration popups (Dynmap, BlueMap, SquareMap).
+	 * The description is cached by {@link EngineMapDescription} until the faction changes or the cache entry expires.
+	 *
+	 * @param faction The faction to describe (must not be null)
+	 * @return HTML string for the description popup, wrapped in a div with class "regioninfo"
+	 * @throws NullPointerException if faction is null
+	 */
+	public static String getFactionDescriptionHtml(Faction faction)
+	{
+		return EngineMapDescription.get().getDescriptionHtml(faction);
+	}
+
 	/**
 	 * Builds the HTML description for a faction for use in map integration popups (Dynmap, BlueMap, SquareMap).
 	 * Uses {@link MConf#mapDescriptionWindowFormat} and replaces placeholders: name, description, motd, age,
 	 * money, flags (per-flag and table/map), players, power, claims.
+	 * Prefer {@link #getFactionDescriptionHtml} which caches the result.
 	 *
 	 * @param faction The faction to describe (must not be null)
 	 * @return HTML string for the description popup, wrapped in a div with class "regioninfo"
 	 * @throws NullPointerException if faction is null
 	 */
-	public static String getFactionDescriptionHtml(Faction faction)
+	public static String createFactionDescriptionHtml(Faction faction)
 	{
 		if (faction == null) throw new NullPointerException("faction");
 		String ret = "<div class=\"regioninfo\">" + MConf.get().mapDescriptionWindowFormat + "</div>";
@@ -324,6 +341,103 @@ public final class MapUtil
 		return ret;
 	}
 
+	// -------------------------------------------- //
+	// CONTENT HASH
+	// -------------------------------------------- //
+
+	/** The hash to start from before mixing in values with the hash methods below. */
+	public static final long HASH_START = 0xcbf29ce484222325L;
+	private static final long HASH_PRIME = 0x100000001b3L;
+
+	/**
+	 * Mixes a value into a 64-bit content hash.
+	 * Content hashes let the map engines skip markers whose geometry, style and description did not change.
+	 *
+	 * @param hash  The hash so far (start with {@link #HASH_START})
+	 * @param value The value to mix in
+	 * @return The new hash
+	 */
+	public static long hash(long hash, long value)
+	{
+		hash ^= value;
+		hash *= HASH_PRIME;
+		return hash ^ (hash >>> 32);
+	}
+
+	public static long hash(long hash, double value)
+	{
+		return hash(hash, Double.doubleToLongBits(value));
+	}
+
+	public static long hash(long hash, boolean value)
+	{
+		return hash(hash, value ? 1L : 0L);
+	}
+
+	/**
+	 * Mixes a string into a 64-bit content hash.
+	 * The string is hashed with FNV-1a over both bytes of every UTF-16 char, low byte first.
+	 * {@link String#hashCode()} is only 32 bits, which made changed descriptions too likely to keep their hash.
+	 *
+	 * @param hash  The hash so far
+	 * @param value The string to mix in (may be null)
+	 * @return The new hash
+	 */
+	public static long hash(long hash, String value)
+	{
+		if (value == null) return hash(hash, -1L);
+
+		long ret = HASH_START;
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			ret ^= c & 0xFF;
+			ret *= HASH_PRIME;
+			ret ^= c >>> 8;
+			ret *= HASH_PRIME;
+		}
+		return hash(hash, ret);
+	}
+
+	/**
+	 * Mixes a list of corners into a 64-bit content hash.
+	 *
+	 * @param hash    The hash so far
+	 * @param corners The corners to mix in (may be null)
+	 * @return The new hash
+	 */
+	public static long hash(long hash, List<PS> corners)
+	{
+		if (corners == null) return hash(hash, -1L);
+		hash = hash(hash, corners.size());
+		for (PS corner : corners)
+		{
+			hash = hash(hash, corner.getLocationX(true));
+			hash = hash(hash, corner.getLocationZ(true));
+		}
+		return hash;
+	}
+
+	/**
+	 * Mixes the resolved values of a style into a 64-bit content hash.
+	 * The resolved values are used so changes to the configured defaults are noticed too.
+	 *
+	 * @param hash  The hash so far
+	 * @param style The style (may be null)
+	 * @return The new hash
+	 */
+	public static long hash(long hash, MapStyle style)
+	{
+		hash = hash(hash, getResolvedLineColor(style));
+		hash = hash(hash, getResolvedFillColor(style));
+		if (style == null) return hash(hash, -1L);
+		hash = hash(hash, style.getLineOpacity());
+		hash = hash(hash, style.getLineWeight());
+		hash = hash(hash, style.getFillOpacity());
+		hash = hash(hash, style.getBoost());
+		return hash;
+	}
+
 	// -------------------------------------------- //
 	// VISIBILITY
 	// -------------------------------------------- //
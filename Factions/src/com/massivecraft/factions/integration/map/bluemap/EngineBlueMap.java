@@ -7,6 +7,7 @@ import com.massivecraft.factions.entity.FactionColl;
 import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.Warp;
 import com.massivecraft.factions.integration.map.MapMarker;
+import com.massivecraft.factions.integration.map.MapMarkerHashes;
 import com.massivecraft.factions.integration.map.MapStyle;
 import com.massivecraft.factions.integration.map.MapTerritoryData;
 import com.massivecraft.factions.integration.map.MapUtil;
@@ -27,10 +28,12 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -79,6 +82,22 @@ public class EngineBlueMap extends Engine
 		BlueMapAPI.onEnable(api -> perform(api));
 	}
 
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	// The content hashes of the markers written to each marker set, by map id and marker set id.
+	// Only the markers whose geometry, style or description changed are written again.
+	private final Map<String, MapMarkerHashes> markerSetHashes = new ConcurrentHashMap<>();
+
+	private MapMarkerHashes getHashes(de.bluecolored.bluemap.api.BlueMapMap map, String markerSetId, MarkerSet markerSet)
+	{
+		MapMarkerHashes ret = this.markerSetHashes.computeIfAbsent(map.getId() + "/" + markerSetId, k -> new MapMarkerHashes());
+		// Marker sets are emptied when BlueMap reloads, so forget what is no longer there
+		ret.retainAll(markerSet.getMarkers().keySet());
+		return ret;
+	}
+
 	@Override
 	public void run()
 	{
@@ -153,15 +172,19 @@ public class EngineBlueMap extends Engine
 				MarkerSet territorySet = map.getMarkerSets().get(IntegrationBlueMap.FACTIONS_LAYER_TERRITORY);
 				if (territorySet != null)
 				{
-					territorySet.getMarkers().clear();
-					for (Entry<String, MapTerritoryData> e : worldTerritory.entrySet())
-					{
-						ExtrudeMarker marker = BlueMapUtil.toExtrudeMarker(e.getValue(), minY, maxY);
-						if (marker != null)
-						{
-							territorySet.getMarkers().put(e.getKey(), marker);
-						}
-					}
+					getHashes(map, IntegrationBlueMap.FACTIONS_LAYER_TERRITORY, territorySet).apply(worldTerritory,
+						data -> MapUtil.hash(MapUtil.hash(data.getContentHash(), minY), maxY),
+						(markerId, data) -> {
+							ExtrudeMarker marker = BlueMapUtil.toExtrudeMarker(data, minY, maxY);
+							if (marker == null)
+							{
+								territorySet.getMarkers().remove(markerId);
+								return false;
+							}
+							territorySet.getMarkers().put(markerId, marker);
+							return true;
+						},
+						territorySet.getMarkers()::remove);
 				}
 
 				// Home warps
@@ -170,11 +193,7 @@ public class EngineBlueMap extends Engine
 					MarkerSet homeSet = map.getMarkerSets().get(IntegrationBlueMap.FACTIONS_LAYER_HOME);
 					if (homeSet != null)
 					{
-						homeSet.getMarkers().clear();
-						for (MapMarker mv : worldHomeWarps)
-						{
-							homeSet.getMarkers().put(mv.getId(), BlueMapUtil.toPOIMarker(mv));
-						}
+						applyPOIMarkers(getHashes(map, IntegrationBlueMap.FACTIONS_LAYER_HOME, homeSet), homeSet, worldHomeWarps);
 					}
 				}
 
@@ -184,17 +203,36 @@ public class EngineBlueMap extends Engine
 					MarkerSet warpsSet = map.getMarkerSets().get(IntegrationBlueMap.FACTIONS_LAYER_WARPS);
 					if (warpsSet != null)
 					{
-						warpsSet.getMarkers().clear();
-						for (MapMarker mv : worldOtherWarps)
-						{
-							warpsSet.getMarkers().put(mv.getId(), BlueMapUtil.toPOIMarker(mv));
-						}
+						applyPOIMarkers(getHashes(map, IntegrationBlueMap.FACTIONS_LAYER_WARPS, warpsSet), warpsSet, worldOtherWarps);
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Writes the point markers whose content changed to the marker set and removes the ones no longer wanted.
+	 *
+	 * @param hashes    The content hashes of the markers written to the marker set
+	 * @param markerSet The marker set to write to
+	 * @param values    The wanted point markers
+	 */
+	private static void applyPOIMarkers(MapMarkerHashes hashes, MarkerSet markerSet, List<MapMarker> values)
+	{
+		Map<String, MapMarker> wanted = new LinkedHashMap<>();
+		for (MapMarker mv : values)
+		{
+			wanted.put(mv.getId(), mv);
+		}
+
+		hashes.apply(wanted, MapMarker::getContentHash,
+			(markerId, mv) -> {
+				markerSet.getMarkers().put(markerId, BlueMapUtil.toPOIMarker(mv));
+				return true;
+			},
+			markerSet.getMarkers()::remove);
+	}
+
 	/**
 	 * Resolves BlueMap world id to our data world key (Board id / warp world name).
 	 * BlueMap uses ids like "world#minecraft:overworld"; our data is keyed by Bukkit world name (e.g. "world").
@@ -273,6 +311,7 @@ public class EngineBlueMap extends Engine
 				map.getMarkerSets().remove(IntegrationBlueMap.FACTIONS_LAYER_WARPS);
 			}
 		}
+		this.markerSetHashes.clear();
 	}
 
 	/**
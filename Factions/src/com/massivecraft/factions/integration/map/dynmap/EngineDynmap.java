@@ -8,6 +8,7 @@ import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.Warp;
 import com.massivecraft.factions.integration.map.MapLayer;
 import com.massivecraft.factions.integration.map.MapMarker;
+import com.massivecraft.factions.integration.map.MapMarkerHashes;
 import com.massivecraft.factions.integration.map.MapStyle;
 import com.massivecraft.factions.integration.map.MapTerritoryData;
 import com.massivecraft.factions.integration.map.MapUtil;
@@ -82,6 +83,12 @@ public class EngineDynmap extends Engine
 	private MarkerSet markersetHome;
 	private MarkerSet markersetWarps;
 
+	// The content hashes of the markers written to each marker set.
+	// Only the markers whose geometry, style or description changed are written again.
+	private final MapMarkerHashes hashesTerritory = new MapMarkerHashes();
+	private final MapMarkerHashes hashesHome = new MapMarkerHashes();
+	private final MapMarkerHashes hashesWarps = new MapMarkerHashes();
+
 	// -------------------------------------------- //
 	// RUN: UPDATE
 	// -------------------------------------------- //
@@ -171,6 +178,7 @@ public class EngineDynmap extends Engine
 				this.markersetHome.deleteMarkerSet();
 				this.markersetHome = null;
 			}
+			this.hashesHome.clear();
 		}
 		
 		// Update other warps layer if enabled
@@ -190,6 +198,7 @@ public class EngineDynmap extends Engine
 				this.markersetWarps.deleteMarkerSet();
 				this.markersetWarps = null;
 			}
+			this.hashesWarps.clear();
 		}
 		
 		logTimeSpent("Sync", before);
@@ -216,6 +225,9 @@ public class EngineDynmap extends Engine
 			this.markersetWarps.deleteMarkerSet();
 			this.markersetWarps = null;
 		}
+		this.hashesTerritory.clear();
+		this.hashesHome.clear();
+		this.hashesWarps.clear();
 	}
 	
 	// Thread Safe / Asynchronous: Yes
@@ -365,22 +377,39 @@ public class EngineDynmap extends Engine
 	
 	/**
 	 * Updates home warp markers on the Dynmap.
-	 * Removes old markers that no longer exist and creates/updates current markers.
+	 * Removes old markers that no longer exist and creates/updates current markers whose content changed.
 	 *
 	 * @param values Map of marker IDs to shared marker values for all current home warps
 	 */
 	// Thread Safe: NO
 	public void updateHomeWarps(Map<String, MapMarker> values)
 	{
-		this.markersetHome.getMarkers().stream()
-			.filter(m -> m.getMarkerID().startsWith("factions_home_"))
+		Map<String, Marker> markers = getHomeMarkerMap(this.markersetHome);
+		updatePointMarkers(values, markers, this.markersetHome, this.hashesHome);
+	}
+
+	/**
+	 * Deletes the point markers that are not wanted and writes the wanted ones whose content hash changed.
+	 *
+	 * @param values    Map of marker IDs to shared marker values for all wanted markers
+	 * @param markers   Map of marker IDs to the markers currently in the marker set
+	 * @param markerSet The marker set to write to
+	 * @param hashes    The content hashes of the markers written to the marker set
+	 */
+	// Thread Safe: NO
+	private void updatePointMarkers(Map<String, MapMarker> values, Map<String, Marker> markers, MarkerSet markerSet, MapMarkerHashes hashes)
+	{
+		// Markers deleted by anyone else are written again
+		hashes.retainAll(markers.keySet());
+
+		// Delete the markers not wanted, also those left over from earlier runs
+		markers.values().stream()
 			.filter(m -> !values.containsKey(m.getMarkerID()))
 			.forEach(Marker::deleteMarker);
 
-		Map<String, Marker> markers = getHomeMarkerMap(this.markersetHome);
-
-		values.forEach((markerId, value) ->
-			DynmapUtil.ensurePointMarkerExistsAndUpdated(value, markers.get(markerId), this.markerApi, this.markersetHome, markerId));
+		hashes.apply(values, MapMarker::getContentHash,
+			(markerId, value) -> DynmapUtil.ensurePointMarkerExistsAndUpdated(value, markers.get(markerId), this.markerApi, markerSet, markerId) != null,
+			markerId -> {});
 	}
 	
 	/**
@@ -442,22 +471,15 @@ public class EngineDynmap extends Engine
 	
 	/**
 	 * Updates non-home warp markers on the Dynmap.
-	 * Removes old markers that no longer exist and creates/updates current markers.
+	 * Removes old markers that no longer exist and creates/updates current markers whose content changed.
 	 *
 	 * @param values Map of marker IDs to shared marker values for all current non-home warps
 	 */
 	// Thread Safe: NO
 	public void updateOtherWarps(Map<String, MapMarker> values)
 	{
-		this.markersetWarps.getMarkers().stream()
-			.filter(m -> m.getMarkerID().startsWith("factions_warp_"))
-			.filter(m -> !values.containsKey(m.getMarkerID()))
-			.forEach(Marker::deleteMarker);
-
 		Map<String, Marker> markers = getOtherWarpsMarkerMap(this.markersetWarps);
-
-		values.forEach((markerId, value) ->
-			DynmapUtil.ensurePointMarkerExistsAndUpdated(value, markers.get(markerId), this.markerApi, this.markersetWarps, markerId));
+		updatePointMarkers(values, markers, this.markersetWarps, this.hashesWarps);
 	}
 	
 	/**
@@ -606,25 +628,28 @@ public class EngineDynmap extends Engine
 	
 	/**
 	 * Updates territory area markers on the Dynmap.
-	 * Removes old markers that no longer exist and creates/updates current markers.
+	 * Removes old markers that no longer exist and creates/updates current markers whose content changed.
 	 * 
 	 * @param values Map of marker IDs to territory data for all current territories
 	 */
 	// Thread Safe: NO
 	public void updateAreas(Map<String, MapTerritoryData> values)
 	{
+		// Map Current
+		Map<String, AreaMarker> markers = getMarkerMap(this.markersetTerritory);
+
+		// Markers deleted by anyone else are written again
+		this.hashesTerritory.retainAll(markers.keySet());
+
 		// Cleanup old markers
-		this.markersetTerritory.getAreaMarkers().stream() // Get current markers
+		markers.values().stream() // Get current markers
 			.filter(am -> !values.containsKey(am.getMarkerID())) // That are not in the new map
 			.forEach(AreaMarker::deleteMarker); // and delete them
 
-
-		// Map Current
-		Map<String, AreaMarker> markers = getMarkerMap(this.markersetTerritory);
-
 		// Loop New
-		values.forEach((markerId, value) ->
-			DynmapUtil.ensureAreaMarkerExistsAndUpdated(value, markers.get(markerId), this.markerApi, this.markersetTerritory, markerId));
+		this.hashesTerritory.apply(values, MapTerritoryData::getContentHash,
+			(markerId, value) -> DynmapUtil.ensureAreaMarkerExistsAndUpdated(value, markers.get(markerId), this.markerApi, this.markersetTerritory, markerId) != null,
+			markerId -> {});
 	}
 
 	/**
@@ -7,6 +7,7 @@ import com.massivecraft.factions.entity.FactionColl;
 import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.Warp;
 import com.massivecraft.factions.integration.map.MapMarker;
+import com.massivecraft.factions.integration.map.MapMarkerHashes;
 import com.massivecraft.factions.integration.map.MapStyle;
 import com.massivecraft.factions.integration.map.MapTerritoryData;
 import com.massivecraft.factions.integration.map.MapUtil;
@@ -32,6 +33,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -92,6 +94,12 @@ public class EnginePl3xMap extends Engine
 		final SimpleLayer homeLayer;
 		final SimpleLayer warpsLayer;
 
+		// The content hashes of the markers written to each layer.
+		// Only the markers whose geometry, style or description changed are written again.
+		final MapMarkerHashes territoryHashes = new MapMarkerHashes();
+		final MapMarkerHashes homeHashes = new MapMarkerHashes();
+		final MapMarkerHashes warpsHashes = new MapMarkerHashes();
+
 		WorldLayers(SimpleLayer territoryLayer, SimpleLayer homeLayer, SimpleLayer warpsLayer)
 		{
 			this.territoryLayer = territoryLayer;
@@ -202,8 +210,8 @@ public class EnginePl3xMap extends Engine
 
 	/**
 	 * Applies pre-built territory and warp data to Pl3xMap layers. Called synchronously on the main thread.
-	 * For each Bukkit world that has an enabled Pl3xMap world, clears and repopulates the three layers
-	 * (territory, home, warps) from the given maps.
+	 * For each Bukkit world that has an enabled Pl3xMap world, updates the three layers (territory, home, warps)
+	 * from the given maps, writing only the markers whose content changed and removing the ones no longer present.
 	 *
 	 * @param api               Pl3xMap API instance
 	 * @param territoryByWorld  Territory polygons by world name, then by marker id
@@ -229,31 +237,50 @@ public class EnginePl3xMap extends Engine
 			List<MapMarker> worldHomeWarps = homeWarps.getOrDefault(worldName, Collections.emptyList());
 			List<MapMarker> worldOtherWarps = otherWarps.getOrDefault(worldName, Collections.emptyList());
 
-			// Territory layer: clear and repopulate with polygon markers (one per contiguous region).
-			layers.territoryLayer.clearMarkers();
-			for (Entry<String, MapTerritoryData> e : worldTerritory.entrySet())
-			{
-				Marker<?> marker = Pl3xMapUtil.toPolygon(e.getKey(), e.getValue());
-				if (marker != null)
-					layers.territoryLayer.addMarker(marker);
-			}
-
-			// Home warp layer: clear and add home markers only if enabled in config.
-			layers.homeLayer.clearMarkers();
-			if (conf.mapShowHomeWarp)
-			{
-				for (MapMarker mv : worldHomeWarps)
-					layers.homeLayer.addMarker(Pl3xMapUtil.toIcon(mv));
-			}
+			// Territory layer: polygon markers (one per contiguous region) whose content changed.
+			SimpleLayer territoryLayer = layers.territoryLayer;
+			layers.territoryHashes.apply(worldTerritory, MapTerritoryData::getContentHash,
+				(markerId, data) -> {
+					Marker<?> marker = Pl3xMapUtil.toPolygon(markerId, data);
+					if (marker == null)
+					{
+						territoryLayer.removeMarker(Pl3xMapUtil.sanitizeKey(markerId));
+						return false;
+					}
+					territoryLayer.addMarker(marker);
+					return true;
+				},
+				markerId -> territoryLayer.removeMarker(Pl3xMapUtil.sanitizeKey(markerId)));
+
+			// Home warp layer: home markers only if enabled in config.
+			applyIcons(layers.homeHashes, layers.homeLayer, conf.mapShowHomeWarp ? worldHomeWarps : Collections.<MapMarker>emptyList());
+
+			// Other warps layer: non-home warp markers only if enabled in config.
+			applyIcons(layers.warpsHashes, layers.warpsLayer, conf.mapShowOtherWarps ? worldOtherWarps : Collections.<MapMarker>emptyList());
+		}
+	}
 
-			// Other warps layer: clear and add non-home warp markers only if enabled in config.
-			layers.warpsLayer.clearMarkers();
-			if (conf.mapShowOtherWarps)
-			{
-				for (MapMarker mv : worldOtherWarps)
-					layers.warpsLayer.addMarker(Pl3xMapUtil.toIcon(mv));
-			}
+	/**
+	 * Writes the icon markers whose content changed to the layer and removes the ones no longer wanted.
+	 *
+	 * @param hashes The content hashes of the markers written to the layer
+	 * @param layer  The layer to write to
+	 * @param values The wanted icon markers
+	 */
+	private static void applyIcons(MapMarkerHashes hashes, SimpleLayer layer, List<MapMarker> values)
+	{
+		Map<String, MapMarker> wanted = new LinkedHashMap<>();
+		for (MapMarker mv : values)
+		{
+			wanted.put(mv.getId(), mv);
 		}
+
+		hashes.apply(wanted, MapMarker::getContentHash,
+			(markerId, mv) -> {
+				layer.addMarker(Pl3xMapUtil.toIcon(mv));
+				return true;
+			},
+			markerId -> layer.removeMarker(Pl3xMapUtil.sanitizeKey(markerId)));
 	}
 
 	/**
@@ -8,6 +8,7 @@ import com.massivecraft.factions.entity.MConf;
 import com.massivecraft.factions.entity.Warp;
 import com.massivecraft.factions.integration.map.MapIconUtil;
 import com.massivecraft.factions.integration.map.MapMarker;
+import com.massivecraft.factions.integration.map.MapMarkerHashes;
 import com.massivecraft.factions.integration.map.MapStyle;
 import com.massivecraft.factions.integration.map.MapTerritoryData;
 import com.massivecraft.factions.integration.map.MapUtil;
@@ -36,6 +37,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -99,6 +101,12 @@ public class EngineSquareMap extends Engine
 		final Key warpsKey;
 		final SimpleLayerProvider warpsProvider;
 
+		// The content hashes of the markers written to each provider.
+		// Only the markers whose geometry, style or description changed are written again.
+		final MapMarkerHashes territoryHashes = new MapMarkerHashes();
+		final MapMarkerHashes homeHashes = new MapMarkerHashes();
+		final MapMarkerHashes warpsHashes = new MapMarkerHashes();
+
 		WorldLayers(Key territoryKey, SimpleLayerProvider territoryProvider,
 		            Key homeKey, SimpleLayerProvider homeProvider,
 		            Key warpsKey, SimpleLayerProvider warpsProvider)
@@ -201,7 +209,8 @@ public class EngineSquareMap extends Engine
 	/**
 	 * Applies built territory and warp data to SquareMap layers.
 	 * Called synchronously on the main thread. For each Bukkit world that has an enabled
-	 * MapWorld, ensures layers exist, then clears and repopulates markers from the pre-built maps.
+	 * MapWorld, ensures layers exist, then writes the markers from the pre-built maps whose content changed
+	 * and removes the ones no longer present.
 	 *
 	 * @param api SquareMap API instance
 	 * @param territoryByWorld Territory polygons by world name, then by marker id
@@ -227,33 +236,69 @@ public class EngineSquareMap extends Engine
 			List<MapMarker> worldHomeWarps = homeWarps.getOrDefault(worldName, Collections.emptyList());
 			List<MapMarker> worldOtherWarps = otherWarps.getOrDefault(worldName, Collections.emptyList());
 
+			// Forget the markers no longer in the providers, e.g. removed by someone else, so they are written again
+			retainPresent(layers.territoryHashes, layers.territoryProvider);
+			retainPresent(layers.homeHashes, layers.homeProvider);
+			retainPresent(layers.warpsHashes, layers.warpsProvider);
+
 			// Territory layer: polygon markers for claimed chunks
-			layers.territoryProvider.clearMarkers();
-			for (Entry<String, MapTerritoryData> e : worldTerritory.entrySet())
-			{
-				Marker marker = SquareMapUtil.toPolygon(e.getValue());
-				if (marker != null)
-					layers.territoryProvider.addMarker(Key.of(SquareMapUtil.sanitizeKey(e.getKey())), marker);
-			}
+			SimpleLayerProvider territoryProvider = layers.territoryProvider;
+			layers.territoryHashes.apply(worldTerritory, MapTerritoryData::getContentHash,
+				(markerId, data) -> {
+					Key key = Key.of(SquareMapUtil.sanitizeKey(markerId));
+					Marker marker = SquareMapUtil.toPolygon(data);
+					if (marker == null)
+					{
+						territoryProvider.removeMarker(key);
+						return false;
+					}
+					territoryProvider.addMarker(key, marker);
+					return true;
+				},
+				markerId -> territoryProvider.removeMarker(Key.of(SquareMapUtil.sanitizeKey(markerId))));
 
 			// Home warp layer: icon markers for faction home warps (if enabled in config)
-			layers.homeProvider.clearMarkers();
-			if (conf.mapShowHomeWarp)
-			{
-				for (MapMarker mv : worldHomeWarps)
-					layers.homeProvider.addMarker(Key.of(SquareMapUtil.sanitizeKey(mv.getId())), SquareMapUtil.toIcon(mv));
-			}
+			applyIcons(layers.homeHashes, layers.homeProvider, conf.mapShowHomeWarp ? worldHomeWarps : Collections.<MapMarker>emptyList());
 
 			// Other warps layer: icon markers for non-home faction warps (if enabled in config)
-			layers.warpsProvider.clearMarkers();
-			if (conf.mapShowOtherWarps)
-			{
-				for (MapMarker mv : worldOtherWarps)
-					layers.warpsProvider.addMarker(Key.of(SquareMapUtil.sanitizeKey(mv.getId())), SquareMapUtil.toIcon(mv));
-			}
+			applyIcons(layers.warpsHashes, layers.warpsProvider, conf.mapShowOtherWarps ? worldOtherWarps : Collections.<MapMarker>emptyList());
 		}
 	}
 
+	/**
+	 * Forgets the content hashes of the markers that are not in the provider.
+	 *
+	 * @param hashes   The content hashes of the markers written to the provider
+	 * @param provider The layer provider the markers were written to
+	 */
+	private static void retainPresent(MapMarkerHashes hashes, SimpleLayerProvider provider)
+	{
+		hashes.retainIf(markerId -> provider.hasMarker(Key.of(SquareMapUtil.sanitizeKey(markerId))));
+	}
+
+	/**
+	 * Writes the icon markers whose content changed to the provider and removes the ones no longer wanted.
+	 *
+	 * @param hashes   The content hashes of the markers written to the provider
+	 * @param provider The layer provider to write to
+	 * @param values   The wanted icon markers
+	 */
+	private static void applyIcons(MapMarkerHashes hashes, SimpleLayerProvider provider, List<MapMarker> values)
+	{
+		Map<String, MapMarker> wanted = new LinkedHashMap<>();
+		for (MapMarker mv : values)
+		{
+			wanted.put(mv.getId(), mv);
+		}
+
+		hashes.apply(wanted, MapMarker::getContentHash,
+			(markerId, mv) -> {
+				provider.addMarker(Key.of(SquareMapUtil.sanitizeKey(markerId)), SquareMapUtil.toIcon(mv));
+				return true;
+			},
+			markerId -> provider.removeMarker(Key.of(SquareMapUtil.sanitizeKey(markerId))));
+	}
+
 	/**
 	 * Ensures Factions icon keys from config (mapWarpHomeIcon, mapWarpOtherIcon) are registered
 	 * with SquareMap's icon registry. SquareMap only displays icon markers whose image key is
@@ -282,7 +327,8 @@ public class EngineSquareMap extends Engine
 	/**
 	 * Ensures the three SquareMap layers (territory, home, warps) exist for the given MapWorld.
 	 * Layers are keyed per world (e.g. factions_territory_world) so multiple worlds each have
-	 * their own layer set. Creates and registers providers on first use; returns cached instance thereafter.
+	 * their own layer set. Creates and registers providers on first use; returns cached instance thereafter,
+	 * registering its providers again if SquareMap was reloaded.
 	 *
 	 * @param mapWorld SquareMap world to register layers on
 	 * @param worldName Bukkit world name (used as cache key and in layer key suffix)
@@ -291,7 +337,14 @@ public class EngineSquareMap extends Engine
 	private WorldLayers ensureWorldLayers(MapWorld mapWorld, String worldName)
 	{
 		WorldLayers layers = worldLayers.get(worldName);
-		if (layers != null) return layers;
+		if (layers != null)
+		{
+			// A SquareMap reload creates new worlds without our layers. The providers still hold their markers.
+			if (!mapWorld.layerRegistry().hasEntry(layers.territoryKey)) mapWorld.layerRegistry().register(layers.territoryKey, layers.territoryProvider);
+			if (!mapWorld.layerRegistry().hasEntry(layers.homeKey)) mapWorld.layerRegistry().register(layers.homeKey, layers.homeProvider);
+			if (!mapWorld.layerRegistry().hasEntry(layers.warpsKey)) mapWorld.layerRegistry().register(layers.warpsKey, layers.warpsProvider);
+			return layers;
+		}
 
 		MConf conf = MConf.get();
 		// Sanitize world name for SquareMap Key (allowed: [a-zA-Z0-9._-])
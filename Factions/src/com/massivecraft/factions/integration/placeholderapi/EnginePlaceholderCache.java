@@ -0,0 +1,352 @@
+package com.massivecraft.factions.integration.placeholderapi;
+
+import com.massivecraft.factions.Rel;
+import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.factions.entity.FactionColl;
+import com.massivecraft.factions.entity.MConf;
+import com.massivecraft.factions.entity.MFlag;
+import com.massivecraft.factions.entity.MPlayer;
+import com.massivecraft.factions.event.EventFactionsChunksChange;
+import com.massivecraft.factions.event.EventFactionsCreate;
+import com.massivecraft.factions.event.EventFactionsDescriptionChange;
+import com.massivecraft.factions.event.EventFactionsDisband;
+import com.massivecraft.factions.event.EventFactionsFlagChange;
+import com.massivecraft.factions.event.EventFactionsMembershipChange;
+import com.massivecraft.factions.event.EventFactionsNameChange;
+import com.massivecraft.factions.event.EventFactionsPowerChange;
+import com.massivecraft.factions.event.EventFactionsRankChange;
+import com.massivecraft.factions.event.EventFactionsRelationChange;
+import com.massivecraft.factions.event.EventFactionsTitleChange;
+import com.massivecraft.factions.event.EventFactionsWarpAdd;
+import com.massivecraft.factions.event.EventFactionsWarpRemove;
+import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.util.IdUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Scoreboard, tab list and chat plugins request the same placeholders for every online player several times a second.
+// This engine remembers the values per faction and per player and drops them when Factions changes the data behind them.
+// Values never live longer than MConf.placeholderCacheMillis since some data, such as faction balances, changes without any event.
+// It also keeps an index of the faction relations so the relation counts don't have to look at every faction.
+public class EnginePlaceholderCache extends Engine
+{
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+
+	private static EnginePlaceholderCache i = new EnginePlaceholderCache();
+	public static EnginePlaceholderCache get() { return i; }
+
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	// Faction id --> placeholder --> value
+	private final Map<String, Map<String, CachedValue>> factionValues = new ConcurrentHashMap<>();
+
+	// Player id --> placeholder --> value
+	private final Map<String, Map<String, CachedValue>> playerValues = new ConcurrentHashMap<>();
+
+	// Faction id --> relation --> the other factions having that relation to it
+	// Null when it has to be rebuilt.
+	private Map<String, Map<Rel, List<Faction>>> relationIndex = null;
+
+	// -------------------------------------------- //
+	// OVERRIDE
+	// -------------------------------------------- //
+
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		this.clear();
+	}
+
+	// -------------------------------------------- //
+	// VALUES
+	// -------------------------------------------- //
+
+	private static class CachedValue
+	{
+		private final String value;
+		private final long millis;
+
+		private CachedValue(String value, long millis)
+		{
+			this.value = value;
+			this.millis = millis;
+		}
+	}
+
+	// The supplier may return null for unknown placeholders. Such results are not remembered.
+	public String getFactionValue(Faction faction, String placeholder, Supplier<String> supplier)
+	{
+		return getValue(this.factionValues, faction.getId(), placeholder, supplier);
+	}
+
+	public String getPlayerValue(MPlayer mplayer, String placeholder, Supplier<String> supplier)
+	{
+		return getValue(this.playerValues, mplayer.getId(), placeholder, supplier);
+	}
+
+	private static String getValue(Map<String, Map<String, CachedValue>> values, String id, String placeholder, Supplier<String> supplier)
+	{
+		long now = System.currentTimeMillis();
+		Map<String, CachedValue> idValues = values.computeIfAbsent(id, key -> new ConcurrentHashMap<>());
+
+		CachedValue cached = idValues.get(placeholder);
+		if (cached != null && now - cached.millis < MConf.get().placeholderCacheMillis) return cached.value;
+
+		// If the values are invalidated while we calculate, we store into a map that is no longer used.
+		String ret = supplier.get();
+		if (ret != null) idValues.put(placeholder, new CachedValue(ret, now));
+		return ret;
+	}
+
+	// -------------------------------------------- //
+	// RELATION INDEX
+	// -------------------------------------------- //
+
+	// Returns the same factions as Faction#getRelatedFactions in no particular order.
+	// Neutral is not indexed since that is the relation to almost every faction.
+	public synchronized List<Faction> getRelatedFactions(Faction faction, Rel rel)
+	{
+		if (faction == null) throw new NullPointerException("faction");
+		if (rel == null) throw new NullPointerException("rel");
+		if (rel == Rel.NEUTRAL) throw new IllegalArgumentException("rel");
+
+		if (this.relationIndex == null) this.relationIndex = createRelationIndex();
+
+		Map<Rel, List<Faction>> relations = this.relationIndex.get(faction.getId());
+		if (relations == null) return Collections.emptyList();
+		List<Faction> ret = relations.get(rel);
+		if (ret == null) return Collections.emptyList();
+		return ret;
+	}
+
+	private synchronized void invalidateRelations()
+	{
+		this.relationIndex = null;
+	}
+
+	private static Map<String, Map<Rel, List<Faction>>> createRelationIndex()
+	{
+		Collection<Faction> factions = FactionColl.get().getAll();
+		Map<String, Map<Rel, List<Faction>>> ret = new HashMap<>();
+
+		// Peaceful factions are in truce with everyone.
+		MFlag flagPeaceful = MFlag.getFlagPeaceful();
+		List<Faction> peacefuls = new ArrayList<>();
+		for (Faction faction : factions)
+		{
+			if (faction.getFlag(flagPeaceful)) peacefuls.add(faction);
+		}
+		for (Faction peaceful : peacefuls)
+		{
+			for (Faction faction : factions)
+			{
+				if (faction == peaceful) continue;
+				addRelated(ret, peaceful, Rel.TRUCE, faction);
+				if ( ! faction.getFlag(flagPeaceful)) addRelated(ret, faction, Rel.TRUCE, peaceful);
+			}
+		}
+
+		// Between other factions there can only be a relation if at least one of them wishes for it.
+		for (Faction faction : factions)
+		{
+			if (faction.getFlag(flagPeaceful)) continue;
+
+			for (Entry<String, Rel> entry : faction.getRelationWishes().entrySet())
+			{
+				Faction other = FactionColl.get().getFixed(entry.getKey(), false);
+				if (other == null || other == faction) continue;
+				if (other.getFlag(flagPeaceful)) continue;
+
+				// When both wish for something the pair is handled from the side with the lowest id.
+				if (other.getRelationWishes().containsKey(faction.getId()) && other.getId().compareTo(faction.getId()) < 0) continue;
+
+				Rel rel = other.getRelationTo(faction);
+				if (rel == Rel.NEUTRAL) continue;
+				addRelated(ret, faction, rel, other);
+				addRelated(ret, other, rel, faction);
+			}
+		}
+
+		return ret;
+	}
+
+	private static void addRelated(Map<String, Map<Rel, List<Faction>>> index, Faction faction, Rel rel, Faction related)
+	{
+		index.computeIfAbsent(faction.getId(), key -> new EnumMap<>(Rel.class)).computeIfAbsent(rel, key -> new ArrayList<>()).add(related);
+	}
+
+	// -------------------------------------------- //
+	// INVALIDATE
+	// -------------------------------------------- //
+
+	public void clear()
+	{
+		this.factionValues.clear();
+		this.playerValues.clear();
+		this.invalidateRelations();
+	}
+
+	// Most Factions events are fired before the change is applied.
+	// Values calculated in between, for example by an asynchronous scoreboard, are dropped again on the next tick.
+	private void invalidate(Set<String> factionIds, Set<String> playerIds, boolean relations)
+	{
+		this.invalidateNow(factionIds, playerIds, relations);
+		Bukkit.getScheduler().runTask(this.getPlugin(), () -> this.invalidateNow(factionIds, playerIds, relations));
+	}
+
+	private void invalidateNow(Set<String> factionIds, Set<String> playerIds, boolean relations)
+	{
+		if (relations) this.invalidateRelations();
+		this.factionValues.keySet().removeAll(factionIds);
+		this.playerValues.keySet().removeAll(playerIds);
+	}
+
+	private void invalidateAll()
+	{
+		this.clear();
+		Bukkit.getScheduler().runTask(this.getPlugin(), this::clear);
+	}
+
+	private void invalidateFaction(Faction faction)
+	{
+		this.invalidate(Collections.singleton(faction.getId()), Collections.emptySet(), false);
+	}
+
+	// The relation placeholders of related factions include member counts.
+	private void addWithRelated(Set<String> factionIds, Faction faction)
+	{
+		factionIds.add(faction.getId());
+		for (Rel rel : new Rel[]{Rel.ALLY, Rel.TRUCE, Rel.ENEMY})
+		{
+			for (Faction related : this.getRelatedFactions(faction, rel))
+			{
+				factionIds.add(related.getId());
+			}
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsRelationChange event)
+	{
+		Set<String> factionIds = new HashSet<>();
+		factionIds.add(event.getFaction().getId());
+		factionIds.add(event.getOtherFaction().getId());
+		this.invalidate(factionIds, Collections.emptySet(), true);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsMembershipChange event)
+	{
+		MPlayer mplayer = event.getMPlayer();
+		Set<String> factionIds = new HashSet<>();
+		this.addWithRelated(factionIds, mplayer.getFaction());
+		this.addWithRelated(factionIds, event.getNewFaction());
+		this.invalidate(factionIds, Collections.singleton(mplayer.getId()), false);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsChunksChange event)
+	{
+		Set<String> factionIds = new HashSet<>();
+		factionIds.add(event.getNewFaction().getId());
+		for (Faction oldFaction : event.getOldFactionChunks().keySet())
+		{
+			factionIds.add(oldFaction.getId());
+		}
+		this.invalidate(factionIds, Collections.emptySet(), false);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsPowerChange event)
+	{
+		MPlayer mplayer = event.getMPlayer();
+		this.invalidate(Collections.singleton(mplayer.getFaction().getId()), Collections.singleton(mplayer.getId()), false);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsRankChange event)
+	{
+		MPlayer mplayer = event.getMPlayer();
+		this.invalidate(Collections.singleton(mplayer.getFaction().getId()), Collections.singleton(mplayer.getId()), false);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsTitleChange event)
+	{
+		this.invalidate(Collections.emptySet(), Collections.singleton(event.getMPlayer().getId()), false);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsNameChange event)
+	{
+		this.invalidateFaction(event.getFaction());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsDescriptionChange event)
+	{
+		this.invalidateFaction(event.getFaction());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsWarpAdd event)
+	{
+		this.invalidateFaction(event.getFaction());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsWarpRemove event)
+	{
+		this.invalidateFaction(event.getFaction());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsFlagChange event)
+	{
+		// Peaceful factions are in truce with everyone.
+		if (MFlag.ID_PEACEFUL.equals(event.getFlag().getId()))
+		{
+			this.invalidateAll();
+			return;
+		}
+		this.invalidateFaction(event.getFaction());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsCreate event)
+	{
+		this.invalidateAll();
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void invalidate(EventFactionsDisband event)
+	{
+		this.invalidateAll();
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void forget(PlayerQuitEvent event)
+	{
+		this.playerValues.remove(IdUtil.getId(event.getPlayer()));
+	}
+
+}
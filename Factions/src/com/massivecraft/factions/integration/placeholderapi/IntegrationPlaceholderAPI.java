@@ -1,5 +1,6 @@
 package com.massivecraft.factions.integration.placeholderapi;
 
+import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.Integration;
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
@@ -23,6 +24,12 @@ public class IntegrationPlaceholderAPI extends Integration
 	// OVERRIDE
 	// -------------------------------------------- //
 
+	@Override
+	public Engine getEngine()
+	{
+		return EnginePlaceholderCache.get();
+	}
+
 	@Override
 	public void setIntegrationActiveInner(boolean active)
 	{
@@ -11,6 +11,7 @@ import com.massivecraft.factions.entity.Warp;
 import com.massivecraft.factions.integration.Econ;
 import com.massivecraft.massivecore.money.Money;
 import com.massivecraft.massivecore.ps.PS;
+import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.PlaceholderProcessor;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import me.clip.placeholderapi.expansion.Relational;
@@ -21,6 +22,9 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class PlaceholderFactions extends PlaceholderExpansion implements Relational
 {
@@ -83,6 +87,64 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
         return !expanders.isEmpty();
     }
 
+    // -------------------------------------------- //
+    // CACHED PLACEHOLDERS
+    // -------------------------------------------- //
+    // The values of these placeholders are reused by EnginePlaceholderCache.
+    // Placeholders that depend on who is looking, such as online member counts, must not be listed here.
+
+    // These only depend on the player
+    private static final Set<String> PLAYER_PLACEHOLDERS = MUtil.set(
+        "player_name",
+        "player_power", "power",
+        "player_powermax", "player_maxpower", "powermax", "maxpower",
+        "player_title", "title",
+        "player_rank", "player_role", "rank", "role",
+        "player_rankforce", "player_roleforce", "rankforce", "roleforce",
+        "player_rankprefix", "player_roleprefix", "rankprefix", "roleprefix",
+        "player_rankprefixforce", "player_roleprefixforce", "rankprefixforce", "roleprefixforce"
+    );
+
+    // These only depend on the faction of the player
+    private static final Set<String> FACTION_PLACEHOLDERS = MUtil.set(
+        "faction_internal_id",
+        "faction_name", "faction",
+        "faction_nameforce", "factionforce",
+        "faction_description", "faction_descriptionforce",
+        "faction_power", "factionpower",
+        "faction_powermax", "faction_maxpower", "factionpowermax", "factionmaxpower",
+        "faction_powerboost",
+        "faction_money_balance", "faction_bank_balance",
+        "faction_money_balance_raw", "faction_bank_balance_raw",
+        "faction_leader",
+        "faction_founded", "faction_created",
+        "faction_peaceful",
+        "faction_warps",
+        "faction_home_formatted", "faction_home_world", "faction_home_x", "faction_home_y", "faction_home_z",
+        "faction_claims", "claims",
+        "faction_allmembers", "allmembers", "faction_size",
+        "faction_allies", "faction_allies_players",
+        "faction_enemies", "faction_enemies_players",
+        "faction_truces", "faction_truces_players"
+    );
+
+    // These only depend on the faction at the location of the player
+    private static final Set<String> TERRITORY_PLACEHOLDERS = MUtil.set(
+        "faction_territory_internal_id",
+        "faction_territory_name",
+        "faction_territory_description",
+        "faction_territory_power",
+        "faction_territory_powermax", "faction_territory_maxpower",
+        "faction_territory_powerboost",
+        "faction_territory_money_balance", "faction_territory_bank_balance",
+        "faction_territory_leader",
+        "faction_territory_founded", "faction_territory_created",
+        "faction_territory_peaceful",
+        "faction_territory_warps",
+        "faction_territory_claims",
+        "faction_territory_allmembers", "faction_territory_size"
+    );
+
     // -------------------------------------------- //
     // OVERRIDE
     // -------------------------------------------- //
@@ -186,8 +248,8 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
         // Format for decimal values
         DecimalFormat df = new DecimalFormat("#.##");
 
-        // Use PlaceholderProcessor to handle modifiers like |rp, |lp, etc.
-        return PlaceholderProcessor.parsePlaceholderWithModifiers(placeholder, basePlaceholder -> {
+        // Calculates the value of a placeholder without modifiers
+        Function<String, String> calculator = basePlaceholder -> {
             // Variable to hold the faction at the player's location for territory placeholders
             Faction factionAtLocation = basePlaceholder.startsWith("faction_territory_") ? BoardColl.get().getFactionAt(PS.valueOf(player.getLocation())) : null;
 
@@ -341,6 +403,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                     {
                         return Integer.toString(mPlayer.getFaction().getLandCount());
                     }
+                    return "";
 
                 case "faction_onlinemembers":
                 case "onlinemembers":
@@ -358,14 +421,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_allies":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).size());
                     }
                     return "";
                 
                 case "faction_allies_players":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -374,7 +437,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_allies_players_online":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -383,7 +446,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_allies_players_offline":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -392,14 +455,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_enemies":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).size());
                     }
                     return "";
 
                 case "faction_enemies_players":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -408,7 +471,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_enemies_players_online":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -417,7 +480,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_enemies_players_offline":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -426,14 +489,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_truces":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).size());
                     }
                     return "";
 
                 case "faction_truces_players":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -442,7 +505,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_truces_players_online":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -451,7 +514,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_truces_players_offline":
                     if (mPlayer.hasFaction())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -531,14 +594,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_allies":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).size());
                     }
                     return "";
                 
                 case "faction_territory_allies_players":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -547,7 +610,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_allies_players_online":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -556,7 +619,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_allies_players_offline":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ALLY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ALLY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -565,14 +628,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_enemies":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).size());
                     }
                     return "";
 
                 case "faction_territory_enemies_players":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -581,7 +644,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_enemies_players_online":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -590,7 +653,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_enemies_players_offline":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.ENEMY).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.ENEMY).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -599,14 +662,14 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_truces":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).size());
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).size());
                     }
                     return "";
 
                 case "faction_territory_truces_players":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size())
                                 .sum());
                     }
@@ -615,7 +678,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_truces_players_online":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -624,7 +687,7 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 case "faction_territory_truces_players_offline":
                     if (!factionAtLocation.isNone())
                     {
-                        return Integer.toString(mPlayer.getFaction().getRelatedFactions(Rel.TRUCE).stream()
+                        return Integer.toString(getRelatedFactions(mPlayer.getFaction(), Rel.TRUCE).stream()
                                 .mapToInt(faction -> faction.getMPlayers().size() - faction.getMPlayersWhereOnlineTo(mPlayer).size())
                                 .sum());
                     }
@@ -686,7 +749,44 @@ public class PlaceholderFactions extends PlaceholderExpansion implements Relatio
                 default:
                     return null;
             }
-        });
+        };
+
+        // Use PlaceholderProcessor to handle modifiers like |rp, |lp, etc.
+        return PlaceholderProcessor.parsePlaceholderWithModifiers(placeholder, basePlaceholder -> getValue(player, mPlayer, basePlaceholder, calculator));
+    }
+
+    // -------------------------------------------- //
+    // VALUES
+    // -------------------------------------------- //
+
+    private static String getValue(Player player, MPlayer mPlayer, String basePlaceholder, Function<String, String> calculator)
+    {
+        EnginePlaceholderCache cache = EnginePlaceholderCache.get();
+        Supplier<String> supplier = () -> calculator.apply(basePlaceholder);
+
+        if (PLAYER_PLACEHOLDERS.contains(basePlaceholder))
+        {
+            return cache.getPlayerValue(mPlayer, basePlaceholder, supplier);
+        }
+
+        if (FACTION_PLACEHOLDERS.contains(basePlaceholder))
+        {
+            return cache.getFactionValue(mPlayer.getFaction(), basePlaceholder, supplier);
+        }
+
+        if (TERRITORY_PLACEHOLDERS.contains(basePlaceholder))
+        {
+            Faction factionAtLocation = BoardColl.get().getFactionAt(PS.valueOf(player.getLocation()));
+            return cache.getFactionValue(factionAtLocation, basePlaceholder, supplier);
+        }
+
+        // The remaining placeholders depend on who is looking and are calculated every time
+        return supplier.get();
+    }
+
+    private static List<Faction> getRelatedFactions(Faction faction, Rel rel)
+    {
+        return EnginePlaceholderCache.get().getRelatedFactions(faction, rel);
     }
 
 }
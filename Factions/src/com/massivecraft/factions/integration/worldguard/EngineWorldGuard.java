@@ -14,12 +14,18 @@ import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
 import com.sk89q.worldguard.protection.managers.RegionManager;
 import com.sk89q.worldguard.protection.regions.GlobalProtectedRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedPolygonalRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionQuery.QueryOption;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -68,10 +74,13 @@ public class EngineWorldGuard extends Engine
 		// For overriders don't bother checking 
 		if (mplayer.isOverriding()) return; 
 		
+		// Grab any regions in the chunks
+		Map<PS, List<ProtectedRegion>> chunkRegions = this.getProtectedRegionsFor(event.getChunks());
+		
 		for (PS chunk : event.getChunks())
 		{
 			// Grab any regions in the chunk
-			final List<ProtectedRegion> regions = this.getProtectedRegionsFor(chunk);
+			final List<ProtectedRegion> regions = chunkRegions.get(chunk);
 			
 			// Ensure there are actually regions to go over 
 			if (regions == null || regions.isEmpty()) continue;
@@ -99,29 +108,92 @@ public class EngineWorldGuard extends Engine
 	
 	public List<ProtectedRegion> getProtectedRegionsFor(PS ps)
 	{
-		// Find overlaps in the chunk
-		int minChunkX = ps.getChunkX() << 4;
-		int minChunkZ = ps.getChunkZ() << 4;
-		int maxChunkX = minChunkX + 15;
-		int maxChunkZ = minChunkZ + 15;
-		
-		int worldHeight = ps.asBukkitWorld().getMaxHeight();
+		List<ProtectedRegion> ret = this.getProtectedRegionsFor(Collections.singleton(ps)).get(ps);
+		if (ret == null) ret = new ArrayList<>();
+		return ret;
+	}
+	
+	// Returns the overlapping regions for each chunk that has any.
+	// The region manager is asked once per world for the bounding box of all the chunks.
+	// It answers that from its spatial index, so only the regions near the chunks are ever looked at.
+	// Those regions are then sorted into the chunks from their own bounds, so each is examined once.
+	public Map<PS, List<ProtectedRegion>> getProtectedRegionsFor(Collection<PS> chunks)
+	{
+		// Group the chunks by world
+		Map<String, Map<Long, PS>> worldChunks = new HashMap<>();
+		for (PS chunk : chunks)
+		{
+			long key = RegionChunkBuckets.getKey(chunk.getChunkX(), chunk.getChunkZ());
+			worldChunks.computeIfAbsent(chunk.getWorld(), world -> new HashMap<>()).put(key, chunk);
+		}
 		
-		BlockVector3 minChunk = BlockVector3.at(minChunkX, 0, minChunkZ);
-		BlockVector3 maxChunk = BlockVector3.at(maxChunkX, worldHeight, maxChunkZ);
+		Map<PS, List<ProtectedRegion>> ret = new HashMap<>();
+		for (Map<Long, PS> sameWorldChunks : worldChunks.values())
+		{
+			World world = sameWorldChunks.values().iterator().next().asBukkitWorld();
+			RegionManager regionManager = WorldGuard.getInstance().getPlatform().getRegionContainer().get(new BukkitWorld(world));
+			
+			// Find the bounding box of the chunks
+			int minChunkX = Integer.MAX_VALUE;
+			int minChunkZ = Integer.MAX_VALUE;
+			int maxChunkX = Integer.MIN_VALUE;
+			int maxChunkZ = Integer.MIN_VALUE;
+			for (PS chunk : sameWorldChunks.values())
+			{
+				minChunkX = Math.min(minChunkX, chunk.getChunkX());
+				minChunkZ = Math.min(minChunkZ, chunk.getChunkZ());
+				maxChunkX = Math.max(maxChunkX, chunk.getChunkX());
+				maxChunkZ = Math.max(maxChunkZ, chunk.getChunkZ());
+			}
+			
+			// Find the regions overlapping the bounding box
+			ProtectedCuboidRegion bounds = getChunksRegion(world, minChunkX, minChunkZ, maxChunkX, maxChunkZ);
+			Collection<ProtectedRegion> regions = regionManager.getApplicableRegions(bounds, QueryOption.NONE).getRegions();
+			if (regions.isEmpty()) continue;
+			
+			// Let's find what each chunk overlapped
+			Map<PS, List<ProtectedRegion>> chunkRegions = RegionChunkBuckets.bucket(sameWorldChunks, regions, EngineWorldGuard::getBlockBounds);
+			for (Map.Entry<PS, List<ProtectedRegion>> entry : chunkRegions.entrySet())
+			{
+				PS chunk = entry.getKey();
+				List<ProtectedRegion> overlapRegions = entry.getValue();
+				
+				// The bounds of a polygon may reach chunks the polygon itself does not
+				overlapRegions.removeIf(region -> region instanceof ProtectedPolygonalRegion && ! isIntersecting(world, chunk, region));
+				if (overlapRegions.isEmpty()) continue;
+				
+				ret.put(chunk, overlapRegions);
+			}
+		}
 		
-		RegionManager regionManager = WorldGuard.getInstance().getPlatform().getRegionContainer().get(new BukkitWorld(ps.asBukkitWorld()));
+		return ret;
+	}
+	
+	// The global region covers everything.
+	private static int[] getBlockBounds(ProtectedRegion region)
+	{
+		if (region instanceof GlobalProtectedRegion) return new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
 		
-		String regionName = "factions_temp";
-		ProtectedCuboidRegion region = new ProtectedCuboidRegion(regionName, minChunk, maxChunk);
+		BlockVector3 min = region.getMinimumPoint();
+		BlockVector3 max = region.getMaximumPoint();
+		return new int[]{min.getBlockX(), min.getBlockZ(), max.getBlockX(), max.getBlockZ()};
+	}
+	
+	private static boolean isIntersecting(World world, PS chunk, ProtectedRegion region)
+	{
+		ProtectedCuboidRegion chunkRegion = getChunksRegion(world, chunk.getChunkX(), chunk.getChunkZ(), chunk.getChunkX(), chunk.getChunkZ());
+		return ! chunkRegion.getIntersectingRegions(Collections.singletonList(region)).isEmpty();
+	}
+	
+	private static ProtectedCuboidRegion getChunksRegion(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ)
+	{
+		int worldHeight = world.getMaxHeight();
 		
-		Map<String, ProtectedRegion> regionMap = regionManager.getRegions();
-		List<ProtectedRegion> regionList = new ArrayList<>(regionMap.values());
+		BlockVector3 minChunk = BlockVector3.at(minChunkX << 4, 0, minChunkZ << 4);
+		BlockVector3 maxChunk = BlockVector3.at((maxChunkX << 4) + 15, worldHeight, (maxChunkZ << 4) + 15);
 		
-		// Let's find what we've overlapped
-		List<ProtectedRegion> overlapRegions = region.getIntersectingRegions(regionList);
-			
-		return overlapRegions;
+		String regionName = "factions_temp";
+		return new ProtectedCuboidRegion(regionName, minChunk, maxChunk);
 	}
 	
 }
@@ -0,0 +1,102 @@
+package com.massivecraft.factions.integration.worldguard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Sorts regions into the chunks their bounding boxes overlap.
+// Every region is examined once and only the chunks asked for are ever filled.
+// The bounding box is exact for cuboids. Other shapes may land in chunks they only come close to.
+public class RegionChunkBuckets
+{
+	// -------------------------------------------- //
+	// KEY
+	// -------------------------------------------- //
+	
+	public static long getKey(int chunkX, int chunkZ)
+	{
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+	
+	private static int getChunkX(long key)
+	{
+		return (int) (key >> 32);
+	}
+	
+	private static int getChunkZ(long key)
+	{
+		return (int) key;
+	}
+	
+	// -------------------------------------------- //
+	// BUCKET
+	// -------------------------------------------- //
+	// The chunks are given by their key.
+	// The bounds are given in blocks as {minX, minZ, maxX, maxZ}.
+	
+	public static <C, R> Map<C, List<R>> bucket(Map<Long, C> chunks, Collection<R> regions, Function<? super R, int[]> blockBounds)
+	{
+		if (chunks == null) throw new NullPointerException("chunks");
+		if (regions == null) throw new NullPointerException("regions");
+		if (blockBounds == null) throw new NullPointerException("blockBounds");
+		
+		Map<C, List<R>> ret = new HashMap<>();
+		if (chunks.isEmpty() || regions.isEmpty()) return ret;
+		
+		// Find the bounding box of the chunks
+		int minChunkX = Integer.MAX_VALUE;
+		int minChunkZ = Integer.MAX_VALUE;
+		int maxChunkX = Integer.MIN_VALUE;
+		int maxChunkZ = Integer.MIN_VALUE;
+		for (long key : chunks.keySet())
+		{
+			minChunkX = Math.min(minChunkX, getChunkX(key));
+			minChunkZ = Math.min(minChunkZ, getChunkZ(key));
+			maxChunkX = Math.max(maxChunkX, getChunkX(key));
+			maxChunkZ = Math.max(maxChunkZ, getChunkZ(key));
+		}
+		
+		for (R region : regions)
+		{
+			// Clip the region to the chunks
+			int[] bounds = blockBounds.apply(region);
+			int fromX = Math.max(minChunkX, bounds[0] >> 4);
+			int fromZ = Math.max(minChunkZ, bounds[1] >> 4);
+			int toX = Math.min(maxChunkX, bounds[2] >> 4);
+			int toZ = Math.min(maxChunkZ, bounds[3] >> 4);
+			if (fromX > toX || fromZ > toZ) continue;
+			
+			// Walk whichever is smaller: The chunks under the region or the chunks asked for.
+			long area = ((long) toX - fromX + 1) * ((long) toZ - fromZ + 1);
+			if (area <= chunks.size())
+			{
+				for (int x = fromX; x <= toX; x++)
+				{
+					for (int z = fromZ; z <= toZ; z++)
+					{
+						C chunk = chunks.get(getKey(x, z));
+						if (chunk == null) continue;
+						ret.computeIfAbsent(chunk, c -> new ArrayList<>()).add(region);
+					}
+				}
+			}
+			else
+			{
+				for (Map.Entry<Long, C> entry : chunks.entrySet())
+				{
+					long key = entry.getKey();
+					int x = getChunkX(key);
+					int z = getChunkZ(key);
+					if (x < fromX || x > toX || z < fromZ || z > toZ) continue;
+					ret.computeIfAbsent(entry.getValue(), c -> new ArrayList<>()).add(region);
+				}
+			}
+		}
+		
+		return ret;
+	}
+	
+}
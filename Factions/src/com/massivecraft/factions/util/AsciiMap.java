@@ -5,6 +5,8 @@ import com.massivecraft.factions.TerritoryAccess;
 import com.massivecraft.factions.entity.Board;
 import com.massivecraft.factions.entity.BoardColl;
 import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.factions.entity.FactionColl;
+import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.massivecore.collections.MassiveList;
 import com.massivecraft.massivecore.mson.Mson;
 import com.massivecraft.massivecore.ps.PS;
@@ -20,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.massivecraft.massivecore.mson.Mson.*;
 
@@ -48,6 +51,29 @@ public class AsciiMap
 	private static final Mson OVERFLOW_MESSAGE = Mson.format("%s: Too Many Factions (>%d) on this Map.", KEY_OVERFLOW.toPlain(true), FACTION_KEY_CHARS.length);
 	private static final Mson LEGEND_SEPARATOR = mson(": ");
 	
+	// -------------------------------------------- //
+	// GRID CACHE
+	// -------------------------------------------- //
+	// The last grid rendered for each viewer.
+	// Moving one chunk then only requires looking up the new row or column.
+	// Grids are invalidated by the board change id so claims show up instantly.
+	// Only players are cached, by their id, and the grid is forgotten when they leave.
+	
+	private static final Map<String, AsciiMapGrid> GRIDS = new ConcurrentHashMap<>();
+	
+	private static String getGridKey(RelationParticipator relationParticipator)
+	{
+		if ( ! (relationParticipator instanceof MPlayer)) return null;
+		return ((MPlayer) relationParticipator).getId();
+	}
+	
+	public static void forgetGrid(RelationParticipator relationParticipator)
+	{
+		String key = getGridKey(relationParticipator);
+		if (key == null) return;
+		GRIDS.remove(key);
+	}
+	
 	// -------------------------------------------- //
 	// FIELDS
 	// -------------------------------------------- //
@@ -67,6 +93,19 @@ public class AsciiMap
 	private final Board board;
 	public Board getBoard() { return this.board; }
 	
+	private AsciiMapGrid grid = null;
+	public AsciiMapGrid getGrid()
+	{
+		if (this.grid != null) return this.grid;
+		
+		String key = getGridKey(this.getRelationParticipator());
+		AsciiMapGrid previous = (key == null ? null : GRIDS.get(key));
+		this.grid = AsciiMapGrid.valueOf(this.getBoard(), this.getTopLeft(), WIDTH, this.getHeight(), previous);
+		if (key != null) GRIDS.put(key, this.grid);
+		
+		return this.grid;
+	}
+	
 	private final Map<Faction, Mson> factionChars = new HashMap<>();
 	public Map<Faction, Mson> getFactionChars() { return this.factionChars; }
 	
@@ -123,7 +162,7 @@ public class AsciiMap
 	{
 		// Prepare
 		PS chunk = this.getCenter();
-		Faction faction = this.getBoard().getFactionAt(chunk);
+		Faction faction = getHostFaction(this.getGrid().get(WIDTH_HALF, this.getHeightHalf()));
 		int chunkX = chunk.getChunkX();
 		int chunkZ = chunk.getChunkZ();
 		String factionName = faction.getNameUnsanitized(this.getRelationParticipator());
@@ -160,6 +199,7 @@ public class AsciiMap
 		boolean isCompassLine = deltaZ < asciiCompass.size();
 		int startX = isCompassLine ? 3 : 0;
 		Mson ret = isCompassLine ? mson(asciiCompass.get(deltaZ)) : EMPTY;
+		List<Mson> factionChars = new ArrayList<>(WIDTH - startX);
 		Mson factionChar;
 		
 		// Fill
@@ -167,26 +207,36 @@ public class AsciiMap
 		{
 			boolean isMiddle = deltaX == WIDTH_HALF && deltaZ == this.getHeightHalf();
 			factionChar = isMiddle ? KEY_MIDDLE : this.getCharChunk(deltaZ, deltaX);
-			ret = ret.add(factionChar);
+			factionChars.add(factionChar);
 		}
 		
 		// Return
-		return ret;
+		return ret.add(factionChars);
 	}
 
 	private Mson getCharChunk(int deltaZ, int deltaX)
 	{
-		PS herePs = this.getTopLeft().plusChunkCoords(deltaX, deltaZ);
-		Faction hereFaction = this.getBoard().getFactionAt(herePs);
+		TerritoryAccess hereAccess = this.getGrid().get(deltaX, deltaZ);
+		Faction hereFaction = getHostFaction(hereAccess);
 
-		String chunkName = this.getBoard().getTerritoryAccessAt(herePs).getChunkName();
+		String chunkName = hereAccess.getChunkName();
 		Mson charFaction = getCharFaction(hereFaction);
+		if (chunkName == null) return charFaction;
+		
 		String tooltip = charFaction.getTooltip();
-		if (chunkName != null) tooltip += "\n" + ChatColor.WHITE + chunkName;
+		tooltip += "\n" + ChatColor.WHITE + chunkName;
 		Mson charChunk = charFaction.tooltip(tooltip);
 		return charChunk;
 	}
 	
+	// The grid may outlive a faction that was removed without touching the board.
+	private static Faction getHostFaction(TerritoryAccess territoryAccess)
+	{
+		Faction ret = territoryAccess.getHostFaction();
+		if (ret == null) ret = FactionColl.get().getNone();
+		return ret;
+	}
+	
 	private Mson getCharFaction(Faction faction)
 	{
 		// Calculate overflow
@@ -0,0 +1,140 @@
+package com.massivecraft.factions.util;
+
+import com.massivecraft.factions.TerritoryAccess;
+import com.massivecraft.factions.entity.Board;
+import com.massivecraft.massivecore.ps.PS;
+
+import java.util.Collections;
+import java.util.List;
+
+// An immutable snapshot of the TerritoryAccess for a rectangle of chunks on a Board.
+// When a player with auto-map moves a single chunk, most of the new rectangle overlaps the previous one.
+// Building the new snapshot from the previous one means only the new row or column has to be looked up.
+// When the board changes only the chunks that changed are looked up again, see Board#getChunksChanged.
+public class AsciiMapGrid
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	private final Board board;
+	public Board getBoard() { return this.board; }
+	
+	// The change id of the board at the time this snapshot was taken.
+	private final long changeId;
+	public long getChangeId() { return this.changeId; }
+	
+	private final int minChunkX;
+	public int getMinChunkX() { return this.minChunkX; }
+	
+	private final int minChunkZ;
+	public int getMinChunkZ() { return this.minChunkZ; }
+	
+	private final int width;
+	public int getWidth() { return this.width; }
+	
+	private final int height;
+	public int getHeight() { return this.height; }
+	
+	// Row major, index = deltaZ * width + deltaX
+	private final TerritoryAccess[] cells;
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	private AsciiMapGrid(Board board, long changeId, int minChunkX, int minChunkZ, int width, int height, TerritoryAccess[] cells)
+	{
+		this.board = board;
+		this.changeId = changeId;
+		this.minChunkX = minChunkX;
+		this.minChunkZ = minChunkZ;
+		this.width = width;
+		this.height = height;
+		this.cells = cells;
+	}
+	
+	public static AsciiMapGrid valueOf(Board board, PS topLeft, int width, int height, AsciiMapGrid previous)
+	{
+		if (board == null) throw new NullPointerException("board");
+		if (topLeft == null) throw new NullPointerException("topLeft");
+		
+		// Read the change id before the cells so a concurrent change can only make us stale, never wrong.
+		long changeId = board.getChangeId();
+		int minChunkX = topLeft.getChunkX();
+		int minChunkZ = topLeft.getChunkZ();
+		
+		// Can the previous snapshot be reused?
+		// Only the chunks changed since it was taken are looked up again.
+		List<PS> changed = Collections.emptyList();
+		if (previous != null && previous.getBoard() != board) previous = null;
+		if (previous != null && previous.getChangeId() != changeId) changed = board.getChunksChanged(previous.getChangeId(), changeId);
+		if (changed == null)
+		{
+			previous = null;
+			changed = Collections.emptyList();
+		}
+		if (previous != null && changed.isEmpty() && previous.isAt(minChunkX, minChunkZ, width, height)) return previous;
+		
+		// Fill
+		TerritoryAccess[] cells = new TerritoryAccess[width * height];
+		for (int deltaZ = 0; deltaZ < height; deltaZ++)
+		{
+			int chunkZ = minChunkZ + deltaZ;
+			for (int deltaX = 0; deltaX < width; deltaX++)
+			{
+				int chunkX = minChunkX + deltaX;
+				TerritoryAccess territoryAccess = (previous == null ? null : previous.getAt(chunkX, chunkZ));
+				if (territoryAccess == null) territoryAccess = board.getTerritoryAccessAt(PS.valueOf(chunkX, chunkZ));
+				cells[deltaZ * width + deltaX] = territoryAccess;
+			}
+		}
+		
+		// Refresh
+		for (PS chunk : changed)
+		{
+			int deltaX = chunk.getChunkX() - minChunkX;
+			int deltaZ = chunk.getChunkZ() - minChunkZ;
+			if (deltaX < 0 || deltaX >= width) continue;
+			if (deltaZ < 0 || deltaZ >= height) continue;
+			cells[deltaZ * width + deltaX] = board.getTerritoryAccessAt(chunk);
+		}
+		
+		// Return
+		return new AsciiMapGrid(board, changeId, minChunkX, minChunkZ, width, height, cells);
+	}
+	
+	// -------------------------------------------- //
+	// GET
+	// -------------------------------------------- //
+	
+	public TerritoryAccess get(int deltaX, int deltaZ)
+	{
+		return this.cells[deltaZ * this.getWidth() + deltaX];
+	}
+	
+	// Returns null if the chunk is outside of this snapshot.
+	public TerritoryAccess getAt(int chunkX, int chunkZ)
+	{
+		int deltaX = chunkX - this.getMinChunkX();
+		int deltaZ = chunkZ - this.getMinChunkZ();
+		if (deltaX < 0 || deltaX >= this.getWidth()) return null;
+		if (deltaZ < 0 || deltaZ >= this.getHeight()) return null;
+		return this.get(deltaX, deltaZ);
+	}
+	
+	// -------------------------------------------- //
+	// UTIL
+	// -------------------------------------------- //
+	
+	public boolean isValidFor(Board board, long changeId)
+	{
+		return this.getBoard() == board && this.getChangeId() == changeId;
+	}
+	
+	public boolean isAt(int minChunkX, int minChunkZ, int width, int height)
+	{
+		return this.getMinChunkX() == minChunkX && this.getMinChunkZ() == minChunkZ && this.getWidth() == width && this.getHeight() == height;
+	}
+	
+}
@@ -5,6 +5,10 @@ import com.massivecraft.massivecore.collections.BackstringSet;
 import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public class EnumerationUtil
 {
     // -------------------------------------------- //
@@ -584,6 +588,34 @@ public class EnumerationUtil
         return MATERIALS_VEHICLE.contains(material) || MConf.get().materialsVehicle.contains(material);
     }
 
+    // -------------------------------------------- //
+    // MATERIAL FENCE
+    // -------------------------------------------- //
+    // All fences leads can be tied to, including the ones added by Minecraft versions we do not list yet.
+    // The names are compared once here rather than on every block interaction.
+    public static final Set<Material> MATERIALS_FENCE = Collections.unmodifiableSet(createMaterialsFence());
+
+    private static Set<Material> createMaterialsFence()
+    {
+        Set<Material> ret = EnumSet.noneOf(Material.class);
+        for (Material material : Material.values())
+        {
+            if (material.name().endsWith("_FENCE")) ret.add(material);
+        }
+        return ret;
+    }
+
+    /**
+     * Checks if the given material is a fence leads can be tied to.
+     * 
+     * @param material The material to check.
+     * @return True if the material is a fence; false otherwise.
+     */
+    public static boolean isMaterialFence(Material material)
+    {
+        return MATERIALS_FENCE.contains(material);
+    }
+
     // -------------------------------------------- //
     // MATERIAL NARROW BLOCKS
     // -------------------------------------------- //
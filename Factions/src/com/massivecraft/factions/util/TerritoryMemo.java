@@ -0,0 +1,102 @@
+package com.massivecraft.factions.util;
+
+import com.massivecraft.factions.TerritoryAccess;
+import com.massivecraft.factions.entity.BoardColl;
+import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.massivecore.ps.PS;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// A short lived memo of the territory at the chunks looked up through it.
+// Events such as explosions and pistons touch many blocks in just a few chunks.
+// Looking those blocks up through the memo only creates a PS and queries the board once per chunk.
+// Create one per event and let it go afterwards. It does not notice changes made to the board.
+public class TerritoryMemo
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+
+	// The world the memoized chunks are in.
+	// Events rarely span worlds, so the memo is simply cleared if the world changes.
+	private World world = null;
+	private String worldName = null;
+
+	// Packed chunk coordinates --> The territory access there
+	private final Map<Long, TerritoryAccess> chunkToTerritoryAccess = new HashMap<>();
+
+	// Neighbouring blocks are usually in the same chunk so the last lookup is kept at hand.
+	private long lastChunk = 0;
+	private TerritoryAccess lastTerritoryAccess = null;
+
+	// -------------------------------------------- //
+	// GET
+	// -------------------------------------------- //
+
+	public TerritoryAccess getTerritoryAccessAt(Block block)
+	{
+		if (block == null) throw new NullPointerException("block");
+		return this.getTerritoryAccessAt(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+	}
+
+	public Faction getFactionAt(Block block)
+	{
+		TerritoryAccess territoryAccess = this.getTerritoryAccessAt(block);
+		if (territoryAccess == null) return null;
+		return territoryAccess.getHostFaction();
+	}
+
+	// Returns null if there is no board for the world, just like BoardColl.
+	public TerritoryAccess getTerritoryAccessAt(World world, int chunkX, int chunkZ)
+	{
+		if (world == null) throw new NullPointerException("world");
+
+		if (world != this.world)
+		{
+			this.world = world;
+			this.worldName = PS.calcWorldName(world);
+			this.clear();
+		}
+
+		long chunk = pack(chunkX, chunkZ);
+		if (this.lastTerritoryAccess != null && this.lastChunk == chunk) return this.lastTerritoryAccess;
+
+		TerritoryAccess ret = this.chunkToTerritoryAccess.get(chunk);
+		if (ret == null && ! this.chunkToTerritoryAccess.containsKey(chunk))
+		{
+			ret = BoardColl.get().getTerritoryAccessAt(PS.valueOf(this.worldName, chunkX, chunkZ));
+			this.chunkToTerritoryAccess.put(chunk, ret);
+		}
+
+		this.lastChunk = chunk;
+		this.lastTerritoryAccess = ret;
+		return ret;
+	}
+
+	public Faction getFactionAt(World world, int chunkX, int chunkZ)
+	{
+		TerritoryAccess territoryAccess = this.getTerritoryAccessAt(world, chunkX, chunkZ);
+		if (territoryAccess == null) return null;
+		return territoryAccess.getHostFaction();
+	}
+
+	// -------------------------------------------- //
+	// UTIL
+	// -------------------------------------------- //
+
+	public void clear()
+	{
+		this.chunkToTerritoryAccess.clear();
+		this.lastChunk = 0;
+		this.lastTerritoryAccess = null;
+	}
+
+	public static long pack(int chunkX, int chunkZ)
+	{
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.massivecraft.factions.engine;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+// EngineTop#rank must order exactly like the comparator sort /f top used before the rankings were cached.
+public class EngineTopRankTest
+{
+	// -------------------------------------------- //
+	// ITEM
+	// -------------------------------------------- //
+	// Equality is by identity like for factions, so items with equal values stay distinct.
+	
+	private static class Item
+	{
+		private final double value;
+		
+		private Item(double value)
+		{
+			this.value = value;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return String.valueOf(this.value);
+		}
+	}
+	
+	private static List<Item> createItems(Random random, int size, int bound)
+	{
+		List<Item> ret = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			ret.add(new Item(random.nextInt(bound)));
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// TEST
+	// -------------------------------------------- //
+	
+	// Whole values like member and chunk counts, with many ties.
+	@Test
+	public void testSameAsComparatorSort()
+	{
+		Random random = new Random(42);
+		for (int size : new int[]{0, 1, 2, 10, 100, 1000})
+		{
+			for (int bound : new int[]{1, 5, 1000})
+			{
+				List<Item> items = createItems(random, size, bound);
+				
+				List<Item> expected = new ArrayList<>(items);
+				expected.sort((i1, i2) -> (int) (i2.value - i1.value));
+				
+				assertEquals(expected, EngineTop.rank(items, item -> item.value));
+			}
+		}
+	}
+	
+	// Fractions and large values like balances and ages.
+	// The old comparator truncated the difference to an int so only a correct comparator is compared here.
+	@Test
+	public void testFractions()
+	{
+		Random random = new Random(42);
+		List<Item> items = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+		{
+			items.add(new Item(random.nextInt(10) == 0 ? 0.5 : random.nextDouble() * 1e12));
+		}
+		
+		List<Item> expected = new ArrayList<>(items);
+		expected.sort((i1, i2) -> Double.compare(i2.value, i1.value));
+		
+		assertEquals(expected, EngineTop.rank(items, item -> item.value));
+	}
+	
+}
@@ -0,0 +1,142 @@
+package com.massivecraft.factions.integration.worldguard;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+// RegionChunkBuckets#bucket must find the same regions per chunk as intersecting every chunk with every region did.
+public class RegionChunkBucketsTest
+{
+	// -------------------------------------------- //
+	// REGION
+	// -------------------------------------------- //
+	// Stands in for a cuboid region. The bounds are in blocks.
+	
+	private static class Box
+	{
+		private final int id;
+		private final int[] bounds;
+		
+		private Box(int id, int minX, int minZ, int maxX, int maxZ)
+		{
+			this.id = id;
+			this.bounds = new int[]{minX, minZ, maxX, maxZ};
+		}
+		
+		private boolean intersects(int chunkX, int chunkZ)
+		{
+			int minX = chunkX << 4;
+			int minZ = chunkZ << 4;
+			return this.bounds[0] <= minX + 15 && this.bounds[2] >= minX && this.bounds[1] <= minZ + 15 && this.bounds[3] >= minZ;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return String.valueOf(this.id);
+		}
+	}
+	
+	private static List<Box> createBoxes(Random random, int size, int spread, int maxSize)
+	{
+		List<Box> ret = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			int minX = random.nextInt(2 * spread) - spread;
+			int minZ = random.nextInt(2 * spread) - spread;
+			ret.add(new Box(i, minX, minZ, minX + random.nextInt(maxSize), minZ + random.nextInt(maxSize)));
+		}
+		return ret;
+	}
+	
+	// Chunk key --> "x,z"
+	private static Map<Long, String> createChunks(Random random, int size, int spread)
+	{
+		Map<Long, String> ret = new HashMap<>();
+		for (int i = 0; i < size; i++)
+		{
+			int x = random.nextInt(2 * spread) - spread;
+			int z = random.nextInt(2 * spread) - spread;
+			ret.put(RegionChunkBuckets.getKey(x, z), x + "," + z);
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// COMPARE
+	// -------------------------------------------- //
+	
+	private static void assertSameAsScan(Map<Long, String> chunks, List<Box> boxes)
+	{
+		AtomicInteger scanExamined = new AtomicInteger();
+		Map<String, List<Box>> expected = new HashMap<>();
+		for (String chunk : chunks.values())
+		{
+			String[] parts = chunk.split(",");
+			int x = Integer.parseInt(parts[0]);
+			int z = Integer.parseInt(parts[1]);
+			for (Box box : boxes)
+			{
+				scanExamined.incrementAndGet();
+				if ( ! box.intersects(x, z)) continue;
+				expected.computeIfAbsent(chunk, c -> new ArrayList<>()).add(box);
+			}
+		}
+		
+		AtomicInteger bucketExamined = new AtomicInteger();
+		Map<String, List<Box>> actual = RegionChunkBuckets.bucket(chunks, boxes, box -> {
+			bucketExamined.incrementAndGet();
+			return box.bounds;
+		});
+		
+		for (List<Box> regions : actual.values())
+		{
+			regions.sort((box1, box2) -> Integer.compare(box1.id, box2.id));
+		}
+		assertEquals(expected, actual);
+		assertEquals(boxes.size(), bucketExamined.get());
+		assertEquals((long) chunks.size() * boxes.size(), scanExamined.get());
+	}
+	
+	// -------------------------------------------- //
+	// TEST
+	// -------------------------------------------- //
+	
+	@Test
+	public void testClaimArea()
+	{
+		Random random = new Random(42);
+		for (int round = 0; round < 100; round++)
+		{
+			assertSameAsScan(createChunks(random, 1 + random.nextInt(80), 8), createBoxes(random, random.nextInt(50), 300, 200));
+		}
+	}
+	
+	@Test
+	public void testSpreadChunks()
+	{
+		// Few chunks far apart under large regions, where the chunks are walked instead of the regions.
+		Random random = new Random(7);
+		for (int round = 0; round < 100; round++)
+		{
+			assertSameAsScan(createChunks(random, 1 + random.nextInt(5), 500), createBoxes(random, random.nextInt(20), 8000, 16000));
+		}
+	}
+	
+	@Test
+	public void testEmpty()
+	{
+		Random random = new Random(3);
+		assertEquals(Collections.emptyMap(), RegionChunkBuckets.bucket(createChunks(random, 10, 10), Collections.<Box>emptyList(), box -> box.bounds));
+		assertEquals(Collections.emptyMap(), RegionChunkBuckets.bucket(Collections.<Long, String>emptyMap(), createBoxes(random, 10, 100, 100), box -> box.bounds));
+	}
+	
+}
@@ -50,6 +50,7 @@ import com.massivecraft.massivecore.engine.EngineMassiveCoreGank;
 import com.massivecraft.massivecore.engine.EngineMassiveCoreLorePriority;
 import com.massivecraft.massivecore.engine.EngineMassiveCoreMain;
 import com.massivecraft.massivecore.engine.EngineMassiveCorePlayerLeave;
+import com.massivecraft.massivecore.engine.EngineMassiveCorePlayerMove;
 import com.massivecraft.massivecore.engine.EngineMassiveCorePlayerState;
 import com.massivecraft.massivecore.engine.EngineMassiveCorePlayerUpdate;
 import com.massivecraft.massivecore.engine.EngineMassiveCoreScheduledTeleport;
@@ -332,6 +333,7 @@ public class MassiveCore extends MassivePlugin
 			EngineMassiveCoreLorePriority.class,
 			EngineMassiveCoreMain.class,
 			EngineMassiveCorePlayerLeave.class,
+			EngineMassiveCorePlayerMove.class,
 			EngineMassiveCorePlayerState.class,
 			EngineMassiveCorePlayerUpdate.class,
 			EngineMassiveCoreScheduledTeleport.class,
@@ -7,6 +7,7 @@ import com.massivecraft.massivecore.command.type.Type;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -22,6 +23,12 @@ public class BackstringSet<T> extends AbstractSet<T>
 	private final Set<String> stringSet;
 	public Set<String> getStringSet() { return this.stringSet; }
 	
+	// For enum types we also keep the enum values the strings resolve to.
+	// That way contains is a bit test rather than an id lookup followed by a string hash lookup.
+	// Strings that resolve to no value, such as those of other versions or mods, are only in the string set.
+	// It is created lazily and thrown away whenever the string set changes.
+	private volatile EnumSet<?> enumSet = null;
+	
 	// -------------------------------------------- //
 	// CONVTERT
 	// -------------------------------------------- //
@@ -52,7 +59,7 @@ public class BackstringSet<T> extends AbstractSet<T>
 	public BackstringSet(Type<T> type)
 	{
 		this.type = type;
-		this.stringSet = new MassiveSet<>();
+		this.stringSet = new StringSet();
 	}
 	
 	public BackstringSet(Type<T> type, Collection<?> collection)
@@ -153,6 +160,12 @@ public class BackstringSet<T> extends AbstractSet<T>
 	@Override
 	public boolean contains(Object object)
 	{
+		if (object instanceof Enum<?>)
+		{
+			EnumSet<?> enumSet = this.getEnumSet();
+			if (enumSet != null && ((Enum<?>) object).getDeclaringClass() == this.type.getClazz()) return enumSet.contains(object);
+		}
+		
 		String string = this.convertToString(object);
 		return this.stringSet.contains(string);
 	}
@@ -186,5 +199,99 @@ public class BackstringSet<T> extends AbstractSet<T>
 	{
 		this.stringSet.clear();
 	}
+	
+	// -------------------------------------------- //
+	// ENUM SET
+	// -------------------------------------------- //
+	
+	private EnumSet<?> getEnumSet()
+	{
+		EnumSet<?> ret = this.enumSet;
+		if (ret != null) return ret;
+		
+		if (this.type == null) return null;
+		Class<T> clazz = this.type.getClazz();
+		if (clazz == null || ! clazz.isEnum()) return null;
+		
+		ret = this.createEnumSet(clazz);
+		this.enumSet = ret;
+		return ret;
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private EnumSet<?> createEnumSet(Class<T> clazz)
+	{
+		// We ask the type for the id of every value so the result is the same as with the string lookup.
+		EnumSet ret = EnumSet.noneOf((Class<Enum>) clazz);
+		for (T value : clazz.getEnumConstants())
+		{
+			String string = this.type.getId(value);
+			if (string == null) continue;
+			if ( ! this.stringSet.contains(string)) continue;
+			ret.add(value);
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// STRING SET
+	// -------------------------------------------- //
+	// The string set is public, so changes made through it must also throw the enum set away.
+	// The bulk operations of the set all end up in these methods.
+	
+	private class StringSet extends MassiveSet<String>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public boolean add(String string)
+		{
+			boolean ret = super.add(string);
+			if (ret) BackstringSet.this.enumSet = null;
+			return ret;
+		}
+		
+		@Override
+		public boolean remove(Object object)
+		{
+			boolean ret = super.remove(object);
+			if (ret) BackstringSet.this.enumSet = null;
+			return ret;
+		}
+		
+		@Override
+		public void clear()
+		{
+			super.clear();
+			BackstringSet.this.enumSet = null;
+		}
+		
+		@Override
+		public Iterator<String> iterator()
+		{
+			final Iterator<String> iterator = super.iterator();
+			return new Iterator<String>()
+			{
+				@Override
+				public boolean hasNext()
+				{
+					return iterator.hasNext();
+				}
+				
+				@Override
+				public String next()
+				{
+					return iterator.next();
+				}
+				
+				@Override
+				public void remove()
+				{
+					iterator.remove();
+					BackstringSet.this.enumSet = null;
+				}
+			};
+		}
+	}
 
 }
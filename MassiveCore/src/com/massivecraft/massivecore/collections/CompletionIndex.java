@@ -0,0 +1,258 @@
+package com.massivecraft.massivecore.collections;
+
+import com.massivecraft.massivecore.apachecommons.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of strings for tab completion and suggestions.
+ * Prefix lookups are answered from a sorted map of lowercase keys.
+ * Edit distance lookups are answered from a BK-tree over the same keys.
+ *
+ * Strings can be added and removed one at a time so the index can be kept up to date incrementally.
+ * The same string may be added several times. It stays in the index until it has been removed as many times.
+ * An index created as case insensitive distinct returns only one string per lowercase key, like a case insensitive set.
+ * All public methods are synchronized.
+ */
+public class CompletionIndex
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// Lowercase key --> original string --> count
+	private final NavigableMap<String, Map<String, Integer>> keyToOriginals = new TreeMap<>();
+	
+	// The BK-tree never removes nodes.
+	// Keys that are no longer present in keyToOriginals are skipped and the tree is rebuilt once they pile up.
+	private BkNode root = null;
+	private int rootSize = 0;
+	
+	// Strings differing only in case are returned once, as the first one added that is still present.
+	private final boolean distinctIgnoreCase;
+	public boolean isDistinctIgnoreCase() { return this.distinctIgnoreCase; }
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public CompletionIndex()
+	{
+		this(false);
+	}
+	
+	public CompletionIndex(boolean distinctIgnoreCase)
+	{
+		this.distinctIgnoreCase = distinctIgnoreCase;
+	}
+	
+	public CompletionIndex(Iterable<String> strings)
+	{
+		this(false);
+		this.addAll(strings);
+	}
+	
+	// -------------------------------------------- //
+	// MODIFY
+	// -------------------------------------------- //
+	
+	public synchronized void add(String string)
+	{
+		if (string == null) return;
+		
+		String key = string.toLowerCase();
+		Map<String, Integer> originals = this.keyToOriginals.get(key);
+		if (originals == null)
+		{
+			originals = new LinkedHashMap<>(2);
+			this.keyToOriginals.put(key, originals);
+			this.addToTree(key);
+		}
+		originals.merge(string, 1, Integer::sum);
+	}
+	
+	public synchronized void addAll(Iterable<String> strings)
+	{
+		for (String string : strings)
+		{
+			this.add(string);
+		}
+	}
+	
+	public synchronized void remove(String string)
+	{
+		if (string == null) return;
+		
+		String key = string.toLowerCase();
+		Map<String, Integer> originals = this.keyToOriginals.get(key);
+		if (originals == null) return;
+		
+		Integer count = originals.get(string);
+		if (count == null) return;
+		if (count > 1) originals.put(string, count - 1);
+		else originals.remove(string);
+		
+		if ( ! originals.isEmpty()) return;
+		this.keyToOriginals.remove(key);
+		
+		// Rebuild the tree once more than half of its nodes are dead.
+		if (this.rootSize > 16 && this.rootSize > 2 * this.keyToOriginals.size()) this.rebuildTree();
+	}
+	
+	public synchronized void clear()
+	{
+		this.keyToOriginals.clear();
+		this.root = null;
+		this.rootSize = 0;
+	}
+	
+	public synchronized int size()
+	{
+		int ret = 0;
+		for (Map<String, Integer> originals : this.keyToOriginals.values())
+		{
+			for (Integer count : originals.values())
+			{
+				ret += count;
+			}
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// QUERY
+	// -------------------------------------------- //
+	
+	// Returns the distinct strings starting with the prefix, ignoring case, in case insensitive order.
+	// If the index is case insensitive distinct only one string is returned per lowercase key.
+	public synchronized List<String> getStartsWithIgnoreCase(String prefix)
+	{
+		if (prefix == null) throw new NullPointerException("prefix");
+		
+		List<String> ret = new ArrayList<>();
+		for (Map<String, Integer> originals : this.getPrefixMap(prefix.toLowerCase()).values())
+		{
+			if (this.distinctIgnoreCase) ret.add(originals.keySet().iterator().next());
+			else ret.addAll(originals.keySet());
+		}
+		return ret;
+	}
+	
+	// Returns the lowercase keys starting with the lowercase prefix.
+	public synchronized List<String> getKeysStartingWith(String prefixLower)
+	{
+		if (prefixLower == null) throw new NullPointerException("prefixLower");
+		
+		return new ArrayList<>(this.getPrefixMap(prefixLower).keySet());
+	}
+	
+	// Returns the distinct strings added under the lowercase key, in the order they were first added.
+	public synchronized List<String> getOriginals(String key)
+	{
+		if (key == null) throw new NullPointerException("key");
+		
+		Map<String, Integer> originals = this.keyToOriginals.get(key);
+		if (originals == null) return new ArrayList<>();
+		return new ArrayList<>(originals.keySet());
+	}
+	
+	// Returns the lowercase keys within the edit distance of the lowercase argument.
+	public synchronized List<String> getKeysLevenshteinSimilar(String argLower, int max)
+	{
+		if (argLower == null) throw new NullPointerException("argLower");
+		
+		List<String> ret = new ArrayList<>();
+		if (this.root == null) return ret;
+		
+		Deque<BkNode> nodes = new ArrayDeque<>();
+		nodes.push(this.root);
+		while ( ! nodes.isEmpty())
+		{
+			BkNode node = nodes.pop();
+			int distance = StringUtils.getLevenshteinDistance(argLower, node.key);
+			if (distance <= max && this.keyToOriginals.containsKey(node.key)) ret.add(node.key);
+			
+			// By the triangle inequality only children at these distances can match.
+			if (node.children == null) continue;
+			for (int childDistance = Math.max(1, distance - max); childDistance <= distance + max; childDistance++)
+			{
+				BkNode child = node.children.get(childDistance);
+				if (child != null) nodes.push(child);
+			}
+		}
+		return ret;
+	}
+	
+	private NavigableMap<String, Map<String, Integer>> getPrefixMap(String prefixLower)
+	{
+		if (prefixLower.isEmpty()) return this.keyToOriginals;
+		
+		// All keys starting with the prefix sort between the prefix itself and the prefix followed by the highest char.
+		return this.keyToOriginals.subMap(prefixLower, true, prefixLower + Character.MAX_VALUE, false);
+	}
+	
+	// -------------------------------------------- //
+	// BK-TREE
+	// -------------------------------------------- //
+	
+	private static class BkNode
+	{
+		private final String key;
+		private Map<Integer, BkNode> children = null;
+		
+		private BkNode(String key)
+		{
+			this.key = key;
+		}
+	}
+	
+	private void addToTree(String key)
+	{
+		if (this.root == null)
+		{
+			this.root = new BkNode(key);
+			this.rootSize = 1;
+			return;
+		}
+		
+		BkNode node = this.root;
+		while (true)
+		{
+			int distance = StringUtils.getLevenshteinDistance(key, node.key);
+			
+			// The key was removed earlier and its node is still around.
+			if (distance == 0) return;
+			
+			if (node.children == null) node.children = new HashMap<>(4);
+			BkNode child = node.children.get(distance);
+			if (child == null)
+			{
+				node.children.put(distance, new BkNode(key));
+				this.rootSize++;
+				return;
+			}
+			node = child;
+		}
+	}
+	
+	private void rebuildTree()
+	{
+		this.root = null;
+		this.rootSize = 0;
+		Collection<String> keys = this.keyToOriginals.keySet();
+		for (String key : keys)
+		{
+			this.addToTree(key);
+		}
+	}
+	
+}
@@ -14,8 +14,7 @@ import com.massivecraft.massivecore.command.type.Type;
 import com.massivecraft.massivecore.command.type.enumeration.TypeEnum;
 import com.massivecraft.massivecore.mixin.MixinMessage;
 import com.massivecraft.massivecore.mson.Mson;
-import com.massivecraft.massivecore.predicate.PredicateLevenshteinClose;
-import com.massivecraft.massivecore.predicate.PredicateStartsWithIgnoreCase;
+import com.massivecraft.massivecore.mson.MsonBuilder;
 import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.PermissionUtil;
 import com.massivecraft.massivecore.util.ReflectionUtil;
@@ -138,6 +137,9 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 	// The child commands.
 	protected List<MassiveCommand> children = Collections.emptyList();
 	
+	// The alias index of the child commands. Null when it has to be rebuilt.
+	private MassiveCommandChildIndex childIndex = null;
+	
 	// === ALIASES ===
 	
 	// The different names this commands will react to  
@@ -388,6 +390,18 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 		return (MassiveCommandHelp) children.get(0);
 	}
 	
+	// The index is rebuilt whenever the children list is replaced or the aliases of a child change.
+	public MassiveCommandChildIndex getChildIndex()
+	{
+		MassiveCommandChildIndex ret = this.childIndex;
+		if (ret == null || ! ret.isValidFor(this.getChildren()))
+		{
+			ret = new MassiveCommandChildIndex(this.getChildren());
+			this.childIndex = ret;
+		}
+		return ret;
+	}
+	
 	// -------------------------------------------- //
 	// CHILDREN > GET
 	// -------------------------------------------- //
@@ -406,36 +420,17 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 	// A larger set means the token was ambiguous.
 	private Set<MassiveCommand> getChildren(String token, boolean levenshtein, CommandSender onlyRelevantToSender, boolean prioritize)
 	{
-		// Create Ret
-		Set<MassiveCommand> ret = new MassiveSet<>();
-		
 		// Prepare
 		token = token.toLowerCase();
-		java.util.function.Predicate<String> predicate = levenshtein ? PredicateLevenshteinClose.get(token) : PredicateStartsWithIgnoreCase.get(token);
+		MassiveCommandChildIndex index = this.getChildIndex();
 		
-		// Fill Ret
-		// Go through each child command
-		for (MassiveCommand child : this.getChildren())
-		{
-			// See if any of the aliases has a match or close enough
-			// If there is a direct match, return that
-			for (String alias : child.getAliases())
-			{
-				// ... consider exact priority ...
-				if (alias.equalsIgnoreCase(token))
-				{
-					return Collections.singleton(child);
-				}
-				
-				if (ret.contains(child)) continue;
-				
-				// ... matches ...
-				if (!predicate.test(alias)) continue;
-				
-				// ... and put in ret.
-				ret.add(child);
-			}
-		}
+		// If there is a direct match, return that
+		MassiveCommand exact = index.getExact(token);
+		if (exact != null) return Collections.singleton(exact);
+		
+		// Create Ret
+		// See if any of the aliases has a match or close enough
+		Set<MassiveCommand> ret = levenshtein ? index.getLevenshteinClose(token) : index.getStartsWith(token);
 		
 		// Only Relevant
 		if (onlyRelevantToSender != null) ret = getRelevantCommands(ret, onlyRelevantToSender);
@@ -505,13 +500,19 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 	public List<String> getAliases() { return this.aliases; }
 	
 	@SuppressWarnings("unchecked")
-	public <T extends MassiveCommand> T setAliases(Collection<String> aliases) { this.aliases = new MassiveList<>(aliases); return (T) this; }
+	public <T extends MassiveCommand> T setAliases(Collection<String> aliases) { this.aliases = new MassiveList<>(aliases); this.changedAliases(); return (T) this; }
 	public <T extends MassiveCommand> T setAliases(String... aliases) { return this.setAliases(Arrays.asList(aliases)); }
 	
 	@SuppressWarnings("unchecked")
-	public <T extends MassiveCommand> T addAliases(Collection<String> aliases) { this.aliases.addAll(aliases); return (T) this; }
+	public <T extends MassiveCommand> T addAliases(Collection<String> aliases) { this.aliases.addAll(aliases); this.changedAliases(); return (T) this; }
 	public <T extends MassiveCommand> T addAliases(String... aliases) { return this.addAliases(Arrays.asList(aliases)); }
 	
+	// The parent indexes our aliases.
+	protected void changedAliases()
+	{
+		if (this.hasParent()) this.getParent().childIndex = null;
+	}
+	
 	// -------------------------------------------- //
 	// PARAMETERS
 	// -------------------------------------------- //
@@ -971,7 +972,11 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 	public void setup()
 	{
 		String name = this.calcName();
-		if (name != null) this.getAliases().add(0, name);
+		if (name != null)
+		{
+			this.getAliases().add(0, name);
+			this.changedAliases();
+		}
 
 		Object permission = this.calcPerm();
 		if (permission != null) this.addRequirements(RequirementHasPerm.get(permission));
@@ -1280,22 +1285,24 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 			ret = ret.suggest(this);
 		}
 		
+		MsonBuilder builder = new MsonBuilder(ret);
+		
 		// Add args
 		for (Mson parameter : this.getTemplateParameters(sender))
 		{
-			ret = ret.add(Mson.SPACE);
-			ret = ret.add(parameter.color(ChatColor.DARK_AQUA));
+			builder.add(Mson.SPACE);
+			builder.add(parameter.color(ChatColor.DARK_AQUA));
 		}
 		
 		// Add desc
 		if (addDesc)
 		{
-			ret = ret.add(Mson.SPACE);
-			ret = ret.add(mson(this.getDesc()).color(ChatColor.YELLOW));
+			builder.add(Mson.SPACE);
+			builder.add(mson(this.getDesc()).color(ChatColor.YELLOW));
 		}
 		
 		// Return Ret
-		return ret;
+		return builder.build();
 	}
 
 	public Mson getTemplateWithArgs(CommandSender sender, String... args)
@@ -1305,20 +1312,20 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 
 	public Mson getTemplateWithArgs(CommandSender sender, List<String> args)
 	{
-		Mson ret = this.getTemplateChain(true, sender);
+		MsonBuilder builder = new MsonBuilder(this.getTemplateChain(true, sender));
 
 		for (String arg : args)
 		{
-			ret = ret.add(Mson.SPACE);
-			ret = ret.add(mson(arg).color(ChatColor.DARK_AQUA));
+			builder.add(Mson.SPACE);
+			builder.add(mson(arg).color(ChatColor.DARK_AQUA));
 		}
 
-		return ret;
+		return builder.build();
 	}
 
 	public Mson getTemplateChain(boolean onlyFirstAlias, CommandSender sender)
 	{
-		Mson ret = TEMPLATE_CORE;
+		MsonBuilder builder = new MsonBuilder(TEMPLATE_CORE);
 
 		List<MassiveCommand> commands = this.getChain(true);
 
@@ -1346,12 +1353,12 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 				mson = mson.color(ChatColor.AQUA);
 			}
 
-			if ( ! first) ret = ret.add(Mson.SPACE);
-			ret = ret.add(mson);
+			if ( ! first) builder.add(Mson.SPACE);
+			builder.add(mson);
 			first = false;
 		}
 
-		return ret;
+		return builder.build();
 	}
 	
 	protected List<Mson> getTemplateParameters(CommandSender sender)
@@ -1466,7 +1473,7 @@ public class MassiveCommand implements Active, PluginIdentifiableCommand
 		// ... else check the children.
 		List<String> ret = new ArrayList<>();
 		String token = args.get(args.size()-1).toLowerCase();
-		for (MassiveCommand child : this.getChildren())
+		for (MassiveCommand child : this.getChildIndex().getStartsWith(token))
 		{
 			if ( ! child.isRelevant(sender)) continue;
 			ret.addAll(Txt.getStartsWithIgnoreCase(child.getAliases(), token));
@@ -0,0 +1,151 @@
+package com.massivecraft.massivecore.command;
+
+import com.massivecraft.massivecore.collections.MassiveList;
+import com.massivecraft.massivecore.collections.MassiveSet;
+import com.massivecraft.massivecore.predicate.PredicateLevenshteinClose;
+import com.massivecraft.massivecore.predicate.PredicateStartsWithIgnoreCase;
+import com.massivecraft.massivecore.util.ReflectionUtil;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+// An index of the aliases of the children of a command.
+// Exact aliases are found with a hash lookup and alias prefixes through a sorted map.
+// The index is built for one children list and MassiveCommand replaces it when the children or their aliases change.
+// Matches are always returned in the order of the children, just like when looping over them.
+public class MassiveCommandChildIndex
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// The children list this index was built for.
+	private final List<MassiveCommand> children;
+	public List<MassiveCommand> getChildren() { return this.children; }
+	
+	// The aliases of each child at the time the index was built.
+	private final List<List<String>> childAliases;
+	
+	// Lowercase alias --> The first child with that alias
+	private final Map<String, MassiveCommand> exact = new HashMap<>();
+	
+	// Lowercase alias --> The indexes of the children with that alias
+	private final NavigableMap<String, BitSet> sorted = new TreeMap<>();
+	
+	// The indexes of the children overriding getAliases.
+	// Their aliases can change without us being told so they are compared on each use.
+	private final BitSet dynamic = new BitSet();
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public MassiveCommandChildIndex(List<MassiveCommand> children)
+	{
+		if (children == null) throw new NullPointerException("children");
+		
+		this.children = children;
+		this.childAliases = new MassiveList<>(children.size());
+		
+		for (int index = 0; index < children.size(); index++)
+		{
+			MassiveCommand child = children.get(index);
+			List<String> aliases = new MassiveList<>(child.getAliases());
+			this.childAliases.add(aliases);
+			if (isAliasesDynamic(child)) this.dynamic.set(index);
+			
+			for (String alias : aliases)
+			{
+				String key = alias.toLowerCase();
+				this.exact.putIfAbsent(key, child);
+				this.sorted.computeIfAbsent(key, k -> new BitSet()).set(index);
+			}
+		}
+	}
+	
+	// -------------------------------------------- //
+	// VALID
+	// -------------------------------------------- //
+	
+	public boolean isValidFor(List<MassiveCommand> children)
+	{
+		if (this.getChildren() != children) return false;
+		
+		for (int index = this.dynamic.nextSetBit(0); index >= 0; index = this.dynamic.nextSetBit(index + 1))
+		{
+			if ( ! this.childAliases.get(index).equals(children.get(index).getAliases())) return false;
+		}
+		
+		return true;
+	}
+	
+	private static final Map<Class<?>, Boolean> classToAliasesDynamic = new ConcurrentHashMap<>();
+	
+	private static boolean isAliasesDynamic(MassiveCommand command)
+	{
+		return classToAliasesDynamic.computeIfAbsent(command.getClass(), clazz -> ReflectionUtil.getSuperclassDeclaringMethod(clazz, true, "getAliases") != MassiveCommand.class);
+	}
+	
+	// -------------------------------------------- //
+	// QUERY
+	// -------------------------------------------- //
+	
+	// Returns the first child with an alias equal to the lowercase token, or null.
+	public MassiveCommand getExact(String tokenLower)
+	{
+		if (tokenLower == null) throw new NullPointerException("tokenLower");
+		return this.exact.get(tokenLower);
+	}
+	
+	// Returns the children with an alias starting with the token, ignoring case.
+	public Set<MassiveCommand> getStartsWith(String tokenLower)
+	{
+		if (tokenLower == null) throw new NullPointerException("tokenLower");
+		
+		NavigableMap<String, BitSet> matches = this.sorted;
+		if ( ! tokenLower.isEmpty()) matches = matches.subMap(tokenLower, true, tokenLower + Character.MAX_VALUE, false);
+		
+		BitSet indexes = new BitSet();
+		for (BitSet childIndexes : matches.values())
+		{
+			indexes.or(childIndexes);
+		}
+		
+		// The sorted map works on lowercase aliases. The predicate has the final say.
+		return this.getMatching(indexes, PredicateStartsWithIgnoreCase.get(tokenLower));
+	}
+	
+	// Returns the children with an alias close to the token.
+	// This one has to look at every alias and is meant for suggestions when nothing else matched.
+	public Set<MassiveCommand> getLevenshteinClose(String tokenLower)
+	{
+		if (tokenLower == null) throw new NullPointerException("tokenLower");
+		
+		BitSet indexes = new BitSet();
+		indexes.set(0, this.getChildren().size());
+		return this.getMatching(indexes, PredicateLevenshteinClose.get(tokenLower));
+	}
+	
+	private Set<MassiveCommand> getMatching(BitSet indexes, Predicate<String> predicate)
+	{
+		Set<MassiveCommand> ret = new MassiveSet<>();
+		for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1))
+		{
+			for (String alias : this.childAliases.get(index))
+			{
+				if ( ! predicate.test(alias)) continue;
+				ret.add(this.getChildren().get(index));
+				break;
+			}
+		}
+		return ret;
+	}
+	
+}
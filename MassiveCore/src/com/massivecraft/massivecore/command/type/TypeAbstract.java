@@ -4,6 +4,7 @@ import com.massivecraft.massivecore.Colorized;
 import com.massivecraft.massivecore.Identified;
 import com.massivecraft.massivecore.MassiveException;
 import com.massivecraft.massivecore.Named;
+import com.massivecraft.massivecore.collections.CompletionIndex;
 import com.massivecraft.massivecore.collections.MassiveList;
 import com.massivecraft.massivecore.collections.MassiveSet;
 import com.massivecraft.massivecore.command.editor.CommandEditAbstract;
@@ -400,21 +401,39 @@ public abstract class TypeAbstract<T> implements Type<T>
 		return true;
 	}
 	
+	// Types with many options can return an index of the tab list here.
+	// The index must contain the same strings getTabList would return for the sender.
+	// Tab completion will then look up the prefix instead of filtering the whole list.
+	public CompletionIndex getTabIndex(CommandSender sender)
+	{
+		return null;
+	}
+	
 	@Override
 	public List<String> getTabListFiltered(CommandSender sender, String arg)
 	{
-		// Get the raw tab list.
-		Collection<String> raw = this.getTabList(sender, arg);
-		
-		// Handle null case.
-		if (raw == null || raw.isEmpty()) return Collections.emptyList();
-		
 		// Only keep the suggestions that starts with what the user already typed in.
 		// This is the first basic step of tab completion.
 		// "Ca" can complete into "Cayorion".
 		// "Ma" can complete into "Madus"
 		// "Ca" can not complete into "Madus" because it does not start with ignore case.
-		List<String> ret = Txt.getStartsWithIgnoreCase(raw, arg);
+		List<String> ret;
+		CompletionIndex index = this.getTabIndex(sender);
+		if (index != null)
+		{
+			// Types maintaining an index can look the prefix up directly.
+			ret = index.getStartsWithIgnoreCase(arg);
+		}
+		else
+		{
+			// Get the raw tab list.
+			Collection<String> raw = this.getTabList(sender, arg);
+			
+			// Handle null case.
+			if (raw == null || raw.isEmpty()) return Collections.emptyList();
+			
+			ret = Txt.getStartsWithIgnoreCase(raw, arg);
+		}
 		
 		// Initial simple cleanup of suggestions.
 		cleanSuggestions(ret);
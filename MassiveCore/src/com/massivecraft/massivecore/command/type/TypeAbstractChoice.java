@@ -2,6 +2,7 @@ package com.massivecraft.massivecore.command.type;
 
 import com.massivecraft.massivecore.apachecommons.StringUtils;
 import com.massivecraft.massivecore.MassiveException;
+import com.massivecraft.massivecore.collections.CompletionIndex;
 import com.massivecraft.massivecore.collections.MassiveList;
 import com.massivecraft.massivecore.collections.MassiveMap;
 import com.massivecraft.massivecore.collections.MassiveSet;
@@ -16,6 +17,8 @@ import org.bukkit.command.CommandSender;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -53,6 +56,14 @@ public abstract class TypeAbstractChoice<T> extends TypeAbstract<T> implements A
 		return ! TypeAbstractChoice.class.equals(ReflectionUtil.getSuperclassDeclaringMethod(this.getClass(), true, "canSee"));
 	}
 	
+	protected boolean tabListOverridden = calcTabListOverridden();
+	public boolean isTabListOverridden() { return this.tabListOverridden; }
+	public void setTabListOverridden(boolean tabListOverridden) { this.tabListOverridden = tabListOverridden; }
+	public boolean calcTabListOverridden()
+	{
+		return ! TypeAbstractChoice.class.equals(ReflectionUtil.getSuperclassDeclaringMethod(this.getClass(), true, "getTabList"));
+	}
+	
 	// -------------------------------------------- //
 	// FIELDS: CACHE
 	// -------------------------------------------- //
@@ -94,6 +105,48 @@ public abstract class TypeAbstractChoice<T> extends TypeAbstract<T> implements A
 	public Collection<String> getTabs() { return this.tabs; }
 	public void setTabs(Collection<String> tabs) { this.tabs = tabs; }
 	
+	// Indexes
+	// These are built lazily from the cached options and tabs above.
+	// They are rebuilt whenever the options or tabs are replaced.
+	protected Map<String, T> optionsIndexed = null;
+	protected CompletionIndex optionsIndex = null;
+	protected Map<String, Integer> optionsOrder = null;
+	protected Collection<String> tabsIndexed = null;
+	protected CompletionIndex tabsIndex = null;
+	
+	protected synchronized CompletionIndex getOptionsIndex(Map<String, T> options)
+	{
+		if (options != this.optionsIndexed)
+		{
+			// The index returns keys in sorted order so we also remember the order of the options.
+			Map<String, Integer> order = new HashMap<>();
+			for (String key : options.keySet())
+			{
+				order.put(key, order.size());
+			}
+			this.optionsIndex = new CompletionIndex(options.keySet());
+			this.optionsOrder = order;
+			this.optionsIndexed = options;
+		}
+		return this.optionsIndex;
+	}
+	
+	protected synchronized Map<String, Integer> getOptionsOrder(Map<String, T> options)
+	{
+		this.getOptionsIndex(options);
+		return this.optionsOrder;
+	}
+	
+	protected synchronized CompletionIndex getTabsIndex(Collection<String> tabs)
+	{
+		if (tabs != this.tabsIndexed)
+		{
+			this.tabsIndex = new CompletionIndex(tabs);
+			this.tabsIndexed = tabs;
+		}
+		return this.tabsIndex;
+	}
+	
 	// -------------------------------------------- //
 	// CONSTRUCT
 	// -------------------------------------------- //
@@ -281,6 +334,33 @@ public abstract class TypeAbstractChoice<T> extends TypeAbstract<T> implements A
 		T exact = options.get(arg);
 		if (exact != null) return Collections.singletonList(exact);
 		
+		// Indexed
+		// The cached options don't change between calls so we can look them up in an index.
+		if (options == this.getOptions())
+		{
+			CompletionIndex index = this.getOptionsIndex(options);
+			List<String> keysLower = levenshtein ? index.getKeysLevenshteinSimilar(arg, this.getLevenshteinMax(arg)) : index.getKeysStartingWith(arg);
+			
+			// The index ignores case but the options may not, so the original keys are checked just like the scan below does.
+			List<String> keys = new MassiveList<>();
+			for (String keyLower : keysLower)
+			{
+				for (String key : index.getOriginals(keyLower))
+				{
+					if (levenshtein ? this.isLevenshteinSimilar(arg, key) : key.startsWith(arg)) keys.add(key);
+				}
+			}
+			
+			// List the matches in the order of the options, just like the scan below does.
+			Map<String, Integer> order = this.getOptionsOrder(options);
+			if (keys.size() > 1) keys.sort(Comparator.comparingInt(order::get));
+			for (String key : keys)
+			{
+				ret.add(options.get(key));
+			}
+			return ret;
+		}
+		
 		// Fill
 		for (Entry<String, T> entry : options.entrySet())
 		{
@@ -396,6 +476,16 @@ public abstract class TypeAbstractChoice<T> extends TypeAbstract<T> implements A
 		return ret;
 	}
 	
+	@Override
+	public CompletionIndex getTabIndex(CommandSender sender)
+	{
+		// Only the cached tabs can be indexed.
+		if (this.isTabListOverridden()) return null;
+		Collection<String> tabs = this.getTabs();
+		if (tabs == null) return null;
+		return this.getTabsIndex(tabs);
+	}
+	
 	public Set<String> createTabs(CommandSender sender)
 	{
 		// Create
@@ -5,13 +5,16 @@ import com.massivecraft.massivecore.MassiveCore;
 import com.massivecraft.massivecore.entity.MassiveCoreMConf;
 import com.massivecraft.massivecore.event.EventMassiveCorePlayerCleanInactivityToleranceMillis;
 import com.massivecraft.massivecore.store.Coll;
-import com.massivecraft.massivecore.store.cleanable.CleaningUtil;
+import com.massivecraft.massivecore.store.cleanable.CleaningPass;
 import com.massivecraft.massivecore.util.IdUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 public class EngineMassiveCoreClean extends Engine
@@ -63,8 +66,45 @@ public class EngineMassiveCoreClean extends Engine
 		for (Coll<?> coll : Coll.getInstances())
 		{
 			if (!coll.isCleanTaskEnabled()) continue;
-			CleaningUtil.considerClean(now, coll, recipients);
+			this.passes.add(new CleaningPass(now, coll, recipients));
 		}
+		
+		// If passes are already being continued the new ones will be picked up there.
+		if ( ! this.continueScheduled) this.continuePasses();
+	}
+	
+	// -------------------------------------------- //
+	// PASSES
+	// -------------------------------------------- //
+	// The passes are worked through within the tick budget.
+	// What remains is continued next tick.
+	
+	private final Deque<CleaningPass> passes = new ArrayDeque<>();
+	private boolean continueScheduled = false;
+	
+	@Override
+	public void setActiveInner(boolean active)
+	{
+		this.passes.clear();
+		this.continueScheduled = false;
+	}
+	
+	private void continuePasses()
+	{
+		this.continueScheduled = false;
+		
+		long budgetMillis = MassiveCoreMConf.get().cleanTaskTickBudgetMillis;
+		long deadlineNano = System.nanoTime() + (budgetMillis > 0 ? budgetMillis * 1000000L : Long.MAX_VALUE / 2);
+		
+		while ( ! this.passes.isEmpty())
+		{
+			if ( ! this.passes.peek().run(deadlineNano)) break;
+			this.passes.poll();
+		}
+		
+		if (this.passes.isEmpty() || ! this.isActive()) return;
+		Bukkit.getScheduler().runTaskLater(this.getPlugin(), this::continuePasses, 1);
+		this.continueScheduled = true;
 	}
 	
 	// -------------------------------------------- //
@@ -2,17 +2,25 @@ package com.massivecraft.massivecore.engine;
 
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.collections.MassiveMap;
+import com.massivecraft.massivecore.collections.MassiveSet;
 import com.massivecraft.massivecore.util.MUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.UUID;
+import java.util.function.ObjDoubleConsumer;
 
 public class EngineMassiveCoreGank extends Engine
 {
@@ -22,25 +30,84 @@ public class EngineMassiveCoreGank extends Engine
 	
 	private static EngineMassiveCoreGank i = new EngineMassiveCoreGank();
 	public static EngineMassiveCoreGank get() { return i; }
+	public EngineMassiveCoreGank()
+	{
+		// Sweep the ledgers of entities that went away without us noticing once a minute.
+		this.setPeriod(60L * 20L);
+	}
 	
 	// -------------------------------------------- //
-	// PROTECTED
+	// LEDGER
 	// -------------------------------------------- //
+	// The damage players dealt to a single entity.
+	// Only a few players damage the same entity so plain arrays scanned from the start beat any map.
+	// The total is kept up to date so quotients need no summing.
 	
-	// NOTE: The usage of WeakHashMap here is important. We would create a memory leak otherwise. WeakHashMap works very well for meta data storage.
-	protected WeakHashMap<Entity, WeakHashMap<Player, Double>> entityToPlayerDamages = new WeakHashMap<>();
-	
-	protected Map<Player, Double> getPlayerDamages(Entity entity, boolean store)
+	protected static class DamageLedger
 	{
-		WeakHashMap<Player, Double> ret = this.entityToPlayerDamages.get(entity);
+		private UUID[] playerIds = new UUID[2];
+		private double[] damages = new double[2];
+		private int size = 0;
+		
+		private double total = 0;
+		public double getTotal() { return this.total; }
+		
+		public void add(UUID playerId, double damage)
+		{
+			this.total += damage;
+			
+			for (int index = 0; index < this.size; index++)
+			{
+				if ( ! this.playerIds[index].equals(playerId)) continue;
+				this.damages[index] += damage;
+				return;
+			}
+			
+			if (this.size == this.playerIds.length)
+			{
+				this.playerIds = Arrays.copyOf(this.playerIds, this.size * 2);
+				this.damages = Arrays.copyOf(this.damages, this.size * 2);
+			}
+			this.playerIds[this.size] = playerId;
+			this.damages[this.size] = damage;
+			this.size++;
+		}
 		
-		if (ret == null)
+		public double get(UUID playerId)
 		{
-			ret = new WeakHashMap<>(4);
-			if (store)
+			for (int index = 0; index < this.size; index++)
 			{
-				this.entityToPlayerDamages.put(entity, ret);
+				if (this.playerIds[index].equals(playerId)) return this.damages[index];
 			}
+			return 0;
+		}
+		
+		public void forEach(ObjDoubleConsumer<UUID> consumer)
+		{
+			for (int index = 0; index < this.size; index++)
+			{
+				consumer.accept(this.playerIds[index], this.damages[index]);
+			}
+		}
+	}
+	
+	// -------------------------------------------- //
+	// PROTECTED
+	// -------------------------------------------- //
+	
+	// NOTE: Entities are kept by their id rather than by reference so the entities themselves are never held on to.
+	// The ledgers are removed when the entity dies or is unloaded, and swept periodically just in case.
+	protected Map<UUID, DamageLedger> entityIdToLedger = new HashMap<>();
+	
+	protected DamageLedger getLedger(Entity entity, boolean store)
+	{
+		UUID entityId = entity.getUniqueId();
+		DamageLedger ret = this.entityIdToLedger.get(entityId);
+		
+		if (ret == null && store)
+		{
+			ret = new DamageLedger();
+			this.entityIdToLedger.put(entityId, ret);
 		}
 		
 		return ret;
@@ -49,41 +116,71 @@ public class EngineMassiveCoreGank extends Engine
 	// -------------------------------------------- //
 	// PUBLIC
 	// -------------------------------------------- //
+	// The methods returning maps and sets create them on each call and only contain the players currently online.
+	// Prefer the methods returning doubles or taking a consumer when called often.
+	
+	public double getDamage(Entity entity, Player player)
+	{
+		DamageLedger ledger = this.getLedger(entity, false);
+		if (ledger == null) return 0;
+		return ledger.get(player.getUniqueId());
+	}
+	
+	public double getDamageTotal(Entity entity)
+	{
+		DamageLedger ledger = this.getLedger(entity, false);
+		if (ledger == null) return 0;
+		return ledger.getTotal();
+	}
+	
+	public double getQuotient(Entity entity, Player player)
+	{
+		DamageLedger ledger = this.getLedger(entity, false);
+		if (ledger == null) return 0;
+		return ledger.get(player.getUniqueId()) / ledger.getTotal();
+	}
 	
+	// The consumer is given the id of each player along with their quotient.
+	public void forEachQuotient(Entity entity, ObjDoubleConsumer<UUID> consumer)
+	{
+		DamageLedger ledger = this.getLedger(entity, false);
+		if (ledger == null) return;
+		double total = ledger.getTotal();
+		ledger.forEach((playerId, damage) -> consumer.accept(playerId, damage / total));
+	}
+	
+	// NOTE: Only online players are included, so the damages may sum to less than getDamageTotal.
+	// The returned map is a copy, changing it no longer changes the tracked damages.
 	public Map<Player, Double> getPlayerDamages(Entity entity)
 	{
-		return this.getPlayerDamages(entity, false);
+		Map<Player, Double> ret = new MassiveMap<>();
+		DamageLedger ledger = this.getLedger(entity, false);
+		if (ledger == null) return ret;
+		
+		ledger.forEach((playerId, damage) ->
+		{
+			Player player = Bukkit.getPlayer(playerId);
+			if (player != null) ret.put(player, damage);
+		});
+		return ret;
 	}
 	
 	public Set<Player> getPlayers(Entity entity)
 	{
-		return this.getPlayerDamages(entity).keySet();
+		return new MassiveSet<>(this.getPlayerDamages(entity).keySet());
 	}
 	
+	// NOTE: This changed when the ledgers were introduced.
+	// Players who are offline are left out, but their damage still counts toward the total.
+	// The quotients are therefore the share of all damage dealt and may sum to less than 1.
 	public Map<Player, Double> getPlayerQuotients(Entity entity)
 	{
-		// Get PlayerDamages
-		Map<Player, Double> playerDamages = getPlayerDamages(entity);
-		
-		// Calculate Total
-		double total = 0;
-		for (Double damage : playerDamages.values())
-		{
-			total += damage;
-		}
-		
-		// Create Ret
-		Map<Player, Double> ret = new MassiveMap<>(playerDamages.size());
-		
-		// Fill Ret
-		for (Entry<Player, Double> playerDamage : playerDamages.entrySet())
+		Map<Player, Double> ret = new MassiveMap<>();
+		this.forEachQuotient(entity, (playerId, quotient) ->
 		{
-			Player player = playerDamage.getKey();
-			Double damage = playerDamage.getValue();
-			ret.put(player, damage / total);
-		}
-		
-		// Return Ret
+			Player player = Bukkit.getPlayer(playerId);
+			if (player != null) ret.put(player, quotient);
+		});
 		return ret;
 	}
 	
@@ -111,18 +208,48 @@ public class EngineMassiveCoreGank extends Engine
 		// ... that is someone else ...
 		if (player.equals(entity)) return;
 		
-		// ... then get player damages ...
-		Map<Player, Double> playerDamages = this.getPlayerDamages(entity, true);
-		
-		// ... get player damage ...
-		Double playerDamage = playerDamages.get(player);
-		if (playerDamage == null) playerDamage = 0D;
-		
-		// ... increment ...
-		playerDamage += damage;
-		
-		// ... and set.
-		playerDamages.put(player, playerDamage);
+		// ... then add to the ledger.
+		this.getLedger(entity, true).add(player.getUniqueId(), damage);
+	}
+	
+	// -------------------------------------------- //
+	// EXPIRE
+	// -------------------------------------------- //
+	
+	// Other plugins may want the damages while handling the death so we remove them next tick.
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(EntityDeathEvent event)
+	{
+		final UUID entityId = event.getEntity().getUniqueId();
+		if ( ! this.entityIdToLedger.containsKey(entityId)) return;
+		Bukkit.getScheduler().runTask(this.getPlugin(), () -> this.entityIdToLedger.remove(entityId));
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(PlayerQuitEvent event)
+	{
+		this.entityIdToLedger.remove(event.getPlayer().getUniqueId());
+	}
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void expire(ChunkUnloadEvent event)
+	{
+		if (this.entityIdToLedger.isEmpty()) return;
+		for (Entity entity : event.getChunk().getEntities())
+		{
+			this.entityIdToLedger.remove(entity.getUniqueId());
+		}
+	}
+	
+	@Override
+	public void run()
+	{
+		Iterator<UUID> iterator = this.entityIdToLedger.keySet().iterator();
+		while (iterator.hasNext())
+		{
+			Entity entity = Bukkit.getEntity(iterator.next());
+			if (entity == null || ! entity.isValid()) iterator.remove();
+		}
 	}
 	
 }
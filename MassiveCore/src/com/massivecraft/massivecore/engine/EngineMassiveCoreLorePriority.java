@@ -1,6 +1,8 @@
 package com.massivecraft.massivecore.engine;
 
 import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.collections.MassiveList;
+import com.massivecraft.massivecore.collections.MassiveMap;
 import com.massivecraft.massivecore.entity.MassiveCoreMConf;
 import com.massivecraft.massivecore.event.EventMassiveCoreLorePriority;
 import com.massivecraft.massivecore.util.InventoryUtil;
@@ -12,7 +14,13 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 public class EngineMassiveCoreLorePriority extends Engine
 {
@@ -66,12 +74,38 @@ public class EngineMassiveCoreLorePriority extends Engine
 
 	public void setPrioritiesRegex(EventMassiveCoreLorePriority event)
 	{
-		for (Entry<String, Integer> prefixEntry : MassiveCoreMConf.get().lorePrioritiesRegex.entrySet())
+		for (Entry<Predicate<String>, Integer> regexEntry : this.getRegexPriorities())
 		{
-			String regex = prefixEntry.getKey();
-			int priority = prefixEntry.getValue();
-			event.setPriorityByRegex(regex, priority);
+			Predicate<String> predicate = regexEntry.getKey();
+			int priority = regexEntry.getValue();
+			event.setPriorityByPredicate(predicate, priority);
+		}
+	}
+	
+	// -------------------------------------------- //
+	// CONFIG PRIORITIES: REGEX COMPILED
+	// -------------------------------------------- //
+	// Compiling the regexes for every item on every click adds up.
+	// They are compiled once and again only when the config map changes.
+	
+	private Map<String, Integer> regexPrioritiesSource = null;
+	private List<Entry<Predicate<String>, Integer>> regexPriorities = Collections.emptyList();
+	
+	public synchronized List<Entry<Predicate<String>, Integer>> getRegexPriorities()
+	{
+		Map<String, Integer> source = MassiveCoreMConf.get().lorePrioritiesRegex;
+		if (source.equals(this.regexPrioritiesSource)) return this.regexPriorities;
+		
+		List<Entry<Predicate<String>, Integer>> ret = new MassiveList<>(source.size());
+		for (Entry<String, Integer> regexEntry : source.entrySet())
+		{
+			Predicate<String> predicate = Pattern.compile(regexEntry.getKey()).asPredicate();
+			ret.add(new SimpleImmutableEntry<>(predicate, regexEntry.getValue()));
 		}
+		
+		this.regexPriorities = ret;
+		this.regexPrioritiesSource = new MassiveMap<>(source);
+		return ret;
 	}
 
 	public void setPrioritiesPrefix(EventMassiveCoreLorePriority event)
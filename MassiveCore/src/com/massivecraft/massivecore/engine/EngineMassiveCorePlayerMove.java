@@ -0,0 +1,70 @@
+package com.massivecraft.massivecore.engine;
+
+import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMove;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveChunk;
+import com.massivecraft.massivecore.ps.PS;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * This engine is the single listener for the PlayerMoveEvent that the move events are run from.
+ * Most moves stay within the same block and end here after a few integer comparisons.
+ * The events are only created when someone listens to them.
+ */
+public class EngineMassiveCorePlayerMove extends Engine
+{
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+	
+	private static EngineMassiveCorePlayerMove i = new EngineMassiveCorePlayerMove();
+	public static EngineMassiveCorePlayerMove get() { return i; }
+	
+	// -------------------------------------------- //
+	// MOVE
+	// -------------------------------------------- //
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void move(PlayerMoveEvent event)
+	{
+		Location from = event.getFrom();
+		Location to = event.getTo();
+		if (to == null) return;
+		
+		// If the player moved to another block ...
+		int fromX = from.getBlockX();
+		int fromY = from.getBlockY();
+		int fromZ = from.getBlockZ();
+		int toX = to.getBlockX();
+		int toY = to.getBlockY();
+		int toZ = to.getBlockZ();
+		boolean worldChanged = from.getWorld() != to.getWorld();
+		if (fromX == toX && fromY == toY && fromZ == toZ && ! worldChanged) return;
+		
+		// ... then calculate what else changed ...
+		boolean chunkChanged = worldChanged || fromX >> 4 != toX >> 4 || fromZ >> 4 != toZ >> 4;
+		PS chunkFrom = null;
+		PS chunkTo = null;
+		if (chunkChanged)
+		{
+			chunkFrom = EventMassiveCorePlayerMove.calcChunk(from);
+			chunkTo = EventMassiveCorePlayerMove.calcChunk(to);
+		}
+		
+		// ... and run the events.
+		if (EventMassiveCorePlayerMoveBlock.getHandlerList().getRegisteredListeners().length != 0)
+		{
+			new EventMassiveCorePlayerMoveBlock(event, chunkChanged, worldChanged, chunkFrom, chunkTo).run();
+		}
+		
+		if (chunkChanged && EventMassiveCorePlayerMoveChunk.getHandlerList().getRegisteredListeners().length != 0)
+		{
+			new EventMassiveCorePlayerMoveChunk(event, worldChanged, chunkFrom, chunkTo).run();
+		}
+	}
+	
+}
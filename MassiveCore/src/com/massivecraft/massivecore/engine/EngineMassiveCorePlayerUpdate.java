@@ -3,6 +3,7 @@ package com.massivecraft.massivecore.engine;
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.event.EventMassiveCoreAfterPlayerRespawn;
 import com.massivecraft.massivecore.event.EventMassiveCoreAfterPlayerTeleport;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import com.massivecraft.massivecore.event.EventMassiveCorePlayerUpdate;
 import com.massivecraft.massivecore.util.MUtil;
 import org.bukkit.entity.Player;
@@ -12,7 +13,6 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -79,11 +79,9 @@ public class EngineMassiveCorePlayerUpdate extends Engine
 	}
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void update(PlayerMoveEvent event)
+	public void update(EventMassiveCorePlayerMoveBlock event)
 	{
 		// Only on block change!
-		if (MUtil.isSameBlock(event)) return;
-		
 		update(event.getPlayer(), true);
 	}
 	
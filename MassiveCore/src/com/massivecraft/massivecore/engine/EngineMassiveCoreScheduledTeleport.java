@@ -2,6 +2,7 @@ package com.massivecraft.massivecore.engine;
 
 import com.massivecraft.massivecore.Engine;
 import com.massivecraft.massivecore.event.EventMassiveCorePlayerLeave;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import com.massivecraft.massivecore.mixin.MixinActual;
 import com.massivecraft.massivecore.mixin.MixinMessage;
 import com.massivecraft.massivecore.teleport.ScheduledTeleport;
@@ -17,7 +18,6 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -104,10 +104,8 @@ public class EngineMassiveCoreScheduledTeleport extends Engine
 	}
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void cancelTeleport(PlayerMoveEvent event)
+	public void cancelTeleport(EventMassiveCorePlayerMoveBlock event)
 	{
-		if (MUtil.isSameBlock(event)) return;
-		
 		final Player player = event.getPlayer();
 		this.cancelTeleport(player);
 	}
@@ -158,6 +158,12 @@ public class MassiveCoreMConf extends Entity<MassiveCoreMConf>
 	// 0 means it never ran before.
 	public long cleanTaskLastMillis = 0;
 	
+	// How much time may the cleaning use each tick?
+	// Cleaning many entities can take a while so it is spread over several ticks.
+	// When set to 0 or less all cleaning is done at once.
+	// Default: 10 milliseconds
+	public long cleanTaskTickBudgetMillis = 10;
+	
 	// -------------------------------------------- //
 	// MONGODB
 	// -------------------------------------------- //
@@ -52,13 +52,26 @@ public class EventMassiveCoreLorePriority extends EventMassiveCore
 		this.lore = getLoreEntries(item);
 	}
 
+	// Use this one if you already have the lore so the item meta is not copied again.
+	public EventMassiveCoreLorePriority(ItemStack item, List<String> lore)
+	{
+		if (item == null) throw new NullPointerException("item");
+		if (lore == null) throw new NullPointerException("lore");
+		this.item = item;
+		this.lore = getLoreEntries(lore);
+	}
+
 	private static List<Entry<String, Integer>> getLoreEntries(ItemStack item)
 	{
 		ItemMeta meta = item.getItemMeta();
 		if ( ! meta.hasLore()) return Collections.emptyList();
+		return getLoreEntries(meta.getLore());
+	}
 
-		List<Entry<String, Integer>> ret = new MassiveList<>();
-		for (String line : meta.getLore())
+	private static List<Entry<String, Integer>> getLoreEntries(List<String> lore)
+	{
+		List<Entry<String, Integer>> ret = new MassiveList<>(lore.size());
+		for (String line : lore)
 		{
 			ret.add(new SimpleEntry<>(line, PRIORITY_DEFAULT));
 		}
@@ -0,0 +1,86 @@
+package com.massivecraft.massivecore.event;
+
+import com.massivecraft.massivecore.ps.PS;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * The base of the non-cancellable move events run by EngineMassiveCorePlayerMove.
+ * They are run at the MONITOR of an uncancelled PlayerMoveEvent.
+ * 
+ * What changed during the move is calculated once and shared by all listeners.
+ * Listen to EventMassiveCorePlayerMoveBlock or EventMassiveCorePlayerMoveChunk rather than this class.
+ * To change the move itself you must still listen to the PlayerMoveEvent.
+ */
+public abstract class EventMassiveCorePlayerMove extends Event implements Runnable
+{
+	// -------------------------------------------- //
+	// FIELD
+	// -------------------------------------------- //
+	
+	private final PlayerMoveEvent event;
+	public PlayerMoveEvent getEvent() { return this.event; }
+	
+	public Player getPlayer() { return this.event.getPlayer(); }
+	public Location getFrom() { return this.event.getFrom(); }
+	public Location getTo() { return this.event.getTo(); }
+	
+	private final boolean chunkChanged;
+	public boolean isChunkChanged() { return this.chunkChanged; }
+	
+	private final boolean worldChanged;
+	public boolean isWorldChanged() { return this.worldChanged; }
+	
+	// The chunks are calculated on first use unless they were passed on construction.
+	private PS chunkFrom;
+	public PS getChunkFrom()
+	{
+		if (this.chunkFrom == null) this.chunkFrom = calcChunk(this.getFrom());
+		return this.chunkFrom;
+	}
+	
+	private PS chunkTo;
+	public PS getChunkTo()
+	{
+		if (this.chunkTo == null) this.chunkTo = calcChunk(this.getTo());
+		return this.chunkTo;
+	}
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public EventMassiveCorePlayerMove(PlayerMoveEvent event, boolean chunkChanged, boolean worldChanged, PS chunkFrom, PS chunkTo)
+	{
+		if (event == null) throw new NullPointerException("event");
+		
+		this.event = event;
+		this.chunkChanged = chunkChanged;
+		this.worldChanged = worldChanged;
+		this.chunkFrom = chunkFrom;
+		this.chunkTo = chunkTo;
+	}
+	
+	// -------------------------------------------- //
+	// OVERRIDE: RUNNABLE
+	// -------------------------------------------- //
+	
+	@Override
+	public void run()
+	{
+		Bukkit.getPluginManager().callEvent(this);
+	}
+	
+	// -------------------------------------------- //
+	// UTIL
+	// -------------------------------------------- //
+	
+	public static PS calcChunk(Location location)
+	{
+		return PS.valueOf(PS.calcWorldName(location.getWorld()), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+	}
+	
+}
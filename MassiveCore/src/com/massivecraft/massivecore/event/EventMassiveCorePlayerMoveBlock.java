@@ -0,0 +1,30 @@
+package com.massivecraft.massivecore.event;
+
+import com.massivecraft.massivecore.ps.PS;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * Run when a player moves from one block to another.
+ * This replaces listening to the PlayerMoveEvent and checking MUtil.isSameBlock.
+ */
+public class EventMassiveCorePlayerMoveBlock extends EventMassiveCorePlayerMove
+{
+	// -------------------------------------------- //
+	// REQUIRED EVENT CODE
+	// -------------------------------------------- //
+	
+	private static final HandlerList handlers = new HandlerList();
+	@Override public HandlerList getHandlers() { return handlers; }
+	public static HandlerList getHandlerList() { return handlers; }
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public EventMassiveCorePlayerMoveBlock(PlayerMoveEvent event, boolean chunkChanged, boolean worldChanged, PS chunkFrom, PS chunkTo)
+	{
+		super(event, chunkChanged, worldChanged, chunkFrom, chunkTo);
+	}
+	
+}
@@ -0,0 +1,31 @@
+package com.massivecraft.massivecore.event;
+
+import com.massivecraft.massivecore.ps.PS;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * Run when a player moves from one chunk to another, including moves between worlds.
+ * This replaces listening to the PlayerMoveEvent and checking MUtil.isSameChunk.
+ * It is run after the EventMassiveCorePlayerMoveBlock for the same move.
+ */
+public class EventMassiveCorePlayerMoveChunk extends EventMassiveCorePlayerMove
+{
+	// -------------------------------------------- //
+	// REQUIRED EVENT CODE
+	// -------------------------------------------- //
+	
+	private static final HandlerList handlers = new HandlerList();
+	@Override public HandlerList getHandlers() { return handlers; }
+	public static HandlerList getHandlerList() { return handlers; }
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public EventMassiveCorePlayerMoveChunk(PlayerMoveEvent event, boolean worldChanged, PS chunkFrom, PS chunkTo)
+	{
+		super(event, true, worldChanged, chunkFrom, chunkTo);
+	}
+	
+}
@@ -2,17 +2,18 @@ package com.massivecraft.massivecore.fetcher;
 
 import com.massivecraft.massivecore.util.MUtil;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class Fetcher implements Callable<Set<IdAndName>>
 {
@@ -20,7 +21,35 @@ public class Fetcher implements Callable<Set<IdAndName>>
 	// CONSTANTS
 	// -------------------------------------------- //
 	
-	public static final ExecutorService ES = Executors.newFixedThreadPool(100);
+	// The one executor shared by all fetchers.
+	// Only the requests themselves run on it and they never wait for each other, so a few threads are enough.
+	// Requests beyond that are queued rather than starting a thread each.
+	public static final int THREADS = 8;
+	public static final ExecutorService ES = createExecutor();
+	
+	private static ExecutorService createExecutor()
+	{
+		ThreadPoolExecutor ret = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable ->
+		{
+			Thread thread = new Thread(runnable, "MassiveCore Fetcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ret.allowCoreThreadTimeOut(true);
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// TRANSPORT
+	// -------------------------------------------- //
+	
+	private static volatile FetcherTransport transport = FetcherTransportHttp.get();
+	public static FetcherTransport getTransport() { return transport; }
+	public static void setTransport(FetcherTransport transport)
+	{
+		if (transport == null) throw new NullPointerException("transport");
+		Fetcher.transport = transport;
+	}
 	
 	// -------------------------------------------- //
 	// FIELDS
@@ -77,24 +106,20 @@ public class Fetcher implements Callable<Set<IdAndName>>
 			}
 		}
 		
-		// Create Tasks
-		Callable<Set<IdAndName>> taskName = () -> new HashSet<>(new FetcherByName(names).call().values());
-		
-		Callable<Set<IdAndName>> taskId = () -> new HashSet<>(new FetcherById(ids).call().values());
-		
-		final List<Callable<Set<IdAndName>>> tasks = new ArrayList<>();
-		tasks.add(taskName);
-		tasks.add(taskId);
-		
-		// Invoke All Tasks
-		List<Future<Set<IdAndName>>> futures = ES.invokeAll(tasks);
+		// Start Lookups
+		// Both are started before waiting for either so they run alongside each other.
+		Map<String, Future<IdAndName>> nameFutures = FetcherByName.fetchAsync(names);
+		Map<UUID, Future<IdAndName>> idFutures = FetcherById.fetchAsync(ids);
 		
 		// Merge Return Value
 		Set<IdAndName> ret = new HashSet<>();
-		for (Future<Set<IdAndName>> future : futures)
+		for (Future<IdAndName> future : nameFutures.values())
+		{
+			ret.add(future.get());
+		}
+		for (Future<IdAndName> future : idFutures.values())
 		{
-			Set<IdAndName> set = future.get();
-			ret.addAll(set);
+			ret.add(future.get());
 		}
 		
 		return ret;
@@ -6,11 +6,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class FetcherById implements Callable<Map<Object, IdAndName>>
 {
@@ -18,7 +19,14 @@ public class FetcherById implements Callable<Map<Object, IdAndName>>
 	// CONSTANTS
 	// -------------------------------------------- //
 	
-	public static final ExecutorService ES = Executors.newFixedThreadPool(100);
+	public static final ExecutorService ES = Fetcher.ES;
+	public static final long CACHE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+	
+	// -------------------------------------------- //
+	// CACHE
+	// -------------------------------------------- //
+	
+	private static final FetcherCache<UUID> CACHE = new FetcherCache<>(CACHE_MILLIS);
 	
 	// -------------------------------------------- //
 	// FIELDS
@@ -51,25 +59,44 @@ public class FetcherById implements Callable<Map<Object, IdAndName>>
 	
 	public static Map<Object, IdAndName> fetch(Collection<UUID> ids) throws Exception
 	{
-		// Create Tasks
-		final List<Callable<Map<UUID, IdAndName>>> tasks = new ArrayList<>();
+		Map<Object, IdAndName> ret = new HashMap<>();
+		for (Entry<UUID, Future<IdAndName>> entry : fetchAsync(ids).entrySet())
+		{
+			ret.put(entry.getKey(), entry.getValue().get());
+		}
+		return ret;
+	}
+	
+	// Starts the lookups that are neither cached nor in flight and returns without waiting.
+	public static Map<UUID, Future<IdAndName>> fetchAsync(Collection<UUID> ids)
+	{
+		Map<UUID, Future<IdAndName>> ret = new HashMap<>();
+		List<UUID> created = new ArrayList<>();
 		for (UUID id : ids)
 		{
-			tasks.add(new FetcherByIdSingle(Collections.singletonList(id)));
+			if (ret.containsKey(id)) continue;
+			ret.put(id, CACHE.get(id, created));
 		}
 		
-		// Invoke All Tasks
-		List<Future<Map<UUID, IdAndName>>> futures = ES.invokeAll(tasks);
-		
-		// Merge Return Value
-		Map<Object, IdAndName> ret = new HashMap<>();
-		for (Future<Map<UUID, IdAndName>> future : futures)
+		// The session server has no batch lookup by id so each id is a request of its own.
+		for (UUID id : created)
 		{
-			Map<UUID, IdAndName> map = future.get();
-			ret.putAll(map);
+			ES.execute(() -> lookup(id));
 		}
 		
 		return ret;
 	}
 	
+	private static void lookup(UUID id)
+	{
+		try
+		{
+			CACHE.complete(id, FetcherByIdSingle.fetch(Collections.singletonList(id)).get(id));
+		}
+		catch (Throwable t)
+		{
+			CACHE.fail(id, t);
+		}
+	}
+	
 }
@@ -3,11 +3,6 @@ package com.massivecraft.massivecore.fetcher;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -66,15 +61,16 @@ public class FetcherByIdSingle implements Callable<Map<UUID, IdAndName>>
 		
 		for (UUID id : ids)
 		{
-			HttpURLConnection connection = createConnection(id);
-			InputStream inputStream = connection.getInputStream();
-			InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+			String body = Fetcher.getTransport().get(PROFILE_URL + id.toString().replace("-", ""));
 			
-			JSONObject response = (JSONObject) jsonParser.parse(inputStreamReader);
+			// No content means there is no profile with this id.
+			if (body == null)
+			{
+				ret.put(id, new IdAndName(id, null));
+				continue;
+			}
 			
-			inputStreamReader.close();
-			inputStream.close();
-			connection.disconnect();
+			JSONObject response = (JSONObject) jsonParser.parse(body);
 			
 			String name = (String) response.get(KEY_NAME);
 			// if (name == null) continue;
@@ -93,17 +89,4 @@ public class FetcherByIdSingle implements Callable<Map<UUID, IdAndName>>
 		return ret;
 	}
 	
-	private static HttpURLConnection createConnection(UUID id) throws Exception
-	{
-		URI uri = new URI(PROFILE_URL + id.toString().replace("-", ""));
-		URL url = uri.toURL();
-		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-		connection.setConnectTimeout(15000);
-		connection.setReadTimeout(15000);
-		connection.setUseCaches(false);
-		connection.setDoInput(true);
-		connection.setDoOutput(true);
-		return connection;
-	}
-	
 }
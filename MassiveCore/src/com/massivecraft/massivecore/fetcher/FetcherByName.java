@@ -5,11 +5,12 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class FetcherByName implements Callable<Map<String, IdAndName>>
 {
@@ -17,8 +18,21 @@ public class FetcherByName implements Callable<Map<String, IdAndName>>
 	// CONSTANTS
 	// -------------------------------------------- //
 	
-	public static final ExecutorService ES = Executors.newFixedThreadPool(100);
+	public static final ExecutorService ES = Fetcher.ES;
 	public static final int BATCH_SIZE = FetcherByNameSingle.PROFILES_PER_REQUEST;
+	public static final long CACHE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+	
+	// -------------------------------------------- //
+	// CACHE
+	// -------------------------------------------- //
+	// Names are case insensitive so they are cached by their lower case.
+	
+	private static final FetcherCache<String> CACHE = new FetcherCache<>(CACHE_MILLIS);
+	
+	private static String getKey(String name)
+	{
+		return name.toLowerCase();
+	}
 	
 	// -------------------------------------------- //
 	// FIELDS
@@ -51,35 +65,58 @@ public class FetcherByName implements Callable<Map<String, IdAndName>>
 	
 	public static Map<String, IdAndName> fetch(Collection<String> names) throws Exception
 	{
-		// Create batches
-		List<List<String>> batches = new ArrayList<>();
-		names = new ArrayList<>(names);
-		while (names.size() > 0)
+		Map<String, IdAndName> ret = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (Entry<String, Future<IdAndName>> entry : fetchAsync(names).entrySet())
 		{
-			List<String> batch = take(names, BATCH_SIZE);
-			batches.add(batch);
+			ret.put(entry.getKey(), entry.getValue().get());
 		}
-		
-		// Create Tasks
-		final List<Callable<Map<String, IdAndName>>> tasks = new ArrayList<>();
-		for (List<String> batch : batches)
+		return ret;
+	}
+	
+	// Starts the lookups that are neither cached nor in flight and returns without waiting.
+	// The names to look up are sent in batches as the profile API allows.
+	public static Map<String, Future<IdAndName>> fetchAsync(Collection<String> names)
+	{
+		Map<String, Future<IdAndName>> ret = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		List<String> created = new ArrayList<>();
+		List<String> lookups = new ArrayList<>();
+		for (String name : names)
 		{
-			tasks.add(new FetcherByNameSingle(batch));
+			if (ret.containsKey(name)) continue;
+			int before = created.size();
+			ret.put(name, CACHE.get(getKey(name), created));
+			if (created.size() != before) lookups.add(name);
 		}
 		
-		// Invoke All Tasks
-		List<Future<Map<String, IdAndName>>> futures = ES.invokeAll(tasks);
-		
-		// Merge Return Value
-		Map<String, IdAndName> ret = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-		for (Future<Map<String, IdAndName>> future : futures)
+		// Create batches
+		while (lookups.size() > 0)
 		{
-			ret.putAll(future.get());
+			List<String> batch = take(lookups, BATCH_SIZE);
+			ES.execute(() -> lookup(batch));
 		}
 		
 		return ret;
 	}
 	
+	private static void lookup(List<String> batch)
+	{
+		try
+		{
+			Map<String, IdAndName> result = FetcherByNameSingle.fetch(batch);
+			for (String name : batch)
+			{
+				CACHE.complete(getKey(name), result.get(name));
+			}
+		}
+		catch (Throwable t)
+		{
+			for (String name : batch)
+			{
+				CACHE.fail(getKey(name), t);
+			}
+		}
+	}
+	
 	public static <T> List<T> take(Collection<T> coll, int count)
 	{
 		List<T> ret = new ArrayList<>();
@@ -4,12 +4,6 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -87,17 +81,10 @@ public class FetcherByNameSingle implements Callable<Map<String, IdAndName>>
 		int requests = (int) Math.ceil(names.size() / (double) PROFILES_PER_REQUEST);
 		for (int i = 0; i < requests; i++)
 		{
-			HttpURLConnection connection = createConnection();
 			String body = JSONArray.toJSONString(names.subList(i * 100, Math.min((i + 1) * 100, names.size())));
-			writeBody(connection, body);
-			InputStream inputStream = connection.getInputStream();
-			InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+			String response = Fetcher.getTransport().post(PROFILE_URL, body);
 			
-			JSONArray array = (JSONArray) jsonParser.parse(inputStreamReader);
-			
-			inputStreamReader.close();
-			inputStream.close();
-			connection.disconnect();
+			JSONArray array = (response == null ? new JSONArray() : (JSONArray) jsonParser.parse(response));
 			
 			for (Object profile : array)
 			{
@@ -124,29 +111,6 @@ public class FetcherByNameSingle implements Callable<Map<String, IdAndName>>
 		return ret;
 	}
 	
-	private static void writeBody(HttpURLConnection connection, String body) throws Exception
-	{
-		OutputStream stream = connection.getOutputStream();
-		stream.write(body.getBytes());
-		stream.flush();
-		stream.close();
-	}
-	
-	private static HttpURLConnection createConnection() throws Exception
-	{
-		URI uri = new URI(PROFILE_URL);
-		URL url = uri.toURL();
-		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-		connection.setRequestMethod("POST");
-		connection.setRequestProperty("Content-Type", "application/json");
-		connection.setConnectTimeout(15000);
-		connection.setReadTimeout(15000);
-		connection.setUseCaches(false);
-		connection.setDoInput(true);
-		connection.setDoOutput(true);
-		return connection;
-	}
-	
 	private static UUID getUUID(String id)
 	{
 		return UUID.fromString(id.substring(0, 8) + "-" + id.substring(8, 12) + "-" + id.substring(12, 16) + "-" + id.substring(16, 20) + "-" +id.substring(20, 32));
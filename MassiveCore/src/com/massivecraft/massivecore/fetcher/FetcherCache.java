@@ -0,0 +1,118 @@
+package com.massivecraft.massivecore.fetcher;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// The lookups in flight and the recently finished ones.
+// Asking for a key that is being looked up, or was looked up within the time to live, gives the same future.
+// That way concurrent and repeated lookups of the same player only reach the API once.
+// Failed lookups are forgotten right away so they can be tried again.
+public class FetcherCache<K>
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	// Expired entries are removed once there are more than this many.
+	public final static int PURGE_SIZE = 1000;
+	
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	private final long ttlMillis;
+	private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public FetcherCache(long ttlMillis)
+	{
+		this.ttlMillis = ttlMillis;
+	}
+	
+	// -------------------------------------------- //
+	// ENTRY
+	// -------------------------------------------- //
+	
+	private static class Entry
+	{
+		private final CompletableFuture<IdAndName> future = new CompletableFuture<>();
+		private volatile long expireMillis = Long.MAX_VALUE;
+		
+		public boolean isExpired(long now)
+		{
+			return now >= this.expireMillis;
+		}
+	}
+	
+	// -------------------------------------------- //
+	// GET
+	// -------------------------------------------- //
+	
+	// Returns the future for the key.
+	// If it is new the key is added to the created collection and the caller must complete it.
+	public CompletableFuture<IdAndName> get(K key, Collection<K> created)
+	{
+		if (key == null) throw new NullPointerException("key");
+		if (created == null) throw new NullPointerException("created");
+		
+		long now = System.currentTimeMillis();
+		
+		Entry entry = this.entries.get(key);
+		if (entry != null && ! entry.isExpired(now)) return entry.future;
+		
+		Entry fresh = new Entry();
+		if (entry != null)
+		{
+			if ( ! this.entries.replace(key, entry, fresh)) return this.get(key, created);
+		}
+		else
+		{
+			if (this.entries.putIfAbsent(key, fresh) != null) return this.get(key, created);
+		}
+		
+		if (this.entries.size() > PURGE_SIZE) this.purge(now);
+		
+		created.add(key);
+		return fresh.future;
+	}
+	
+	// -------------------------------------------- //
+	// COMPLETE
+	// -------------------------------------------- //
+	
+	public void complete(K key, IdAndName value)
+	{
+		Entry entry = this.entries.get(key);
+		if (entry == null) return;
+		entry.expireMillis = System.currentTimeMillis() + this.ttlMillis;
+		entry.future.complete(value);
+	}
+	
+	public void fail(K key, Throwable throwable)
+	{
+		Entry entry = this.entries.get(key);
+		if (entry == null) return;
+		this.entries.remove(key, entry);
+		entry.future.completeExceptionally(throwable);
+	}
+	
+	// -------------------------------------------- //
+	// PURGE
+	// -------------------------------------------- //
+	
+	private void purge(long now)
+	{
+		Iterator<Entry> iterator = this.entries.values().iterator();
+		while (iterator.hasNext())
+		{
+			if (iterator.next().isExpired(now)) iterator.remove();
+		}
+	}
+	
+}
@@ -0,0 +1,12 @@
+package com.massivecraft.massivecore.fetcher;
+
+// How the fetchers talk to the Mojang API.
+// The default is FetcherTransportHttp. Set another one with Fetcher#setTransport, for example to serve lookups locally.
+public interface FetcherTransport
+{
+	// Returns the response body or null if there was no content.
+	String get(String url) throws Exception;
+	
+	// Sends the JSON body and returns the response body or null if there was no content.
+	String post(String url, String body) throws Exception;
+}
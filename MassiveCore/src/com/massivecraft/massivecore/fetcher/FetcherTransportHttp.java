@@ -0,0 +1,101 @@
+package com.massivecraft.massivecore.fetcher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+public class FetcherTransportHttp implements FetcherTransport
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	public final static int TIMEOUT_MILLIS = 15000;
+	
+	// -------------------------------------------- //
+	// INSTANCE & CONSTRUCT
+	// -------------------------------------------- //
+	
+	private static FetcherTransportHttp i = new FetcherTransportHttp();
+	public static FetcherTransportHttp get() { return i; }
+	
+	// -------------------------------------------- //
+	// OVERRIDE
+	// -------------------------------------------- //
+	
+	@Override
+	public String get(String url) throws Exception
+	{
+		HttpURLConnection connection = createConnection(url);
+		try
+		{
+			return read(connection);
+		}
+		finally
+		{
+			connection.disconnect();
+		}
+	}
+	
+	@Override
+	public String post(String url, String body) throws Exception
+	{
+		HttpURLConnection connection = createConnection(url);
+		try
+		{
+			connection.setRequestMethod("POST");
+			connection.setRequestProperty("Content-Type", "application/json");
+			connection.setDoOutput(true);
+			
+			OutputStream stream = connection.getOutputStream();
+			stream.write(body.getBytes(StandardCharsets.UTF_8));
+			stream.flush();
+			stream.close();
+			
+			return read(connection);
+		}
+		finally
+		{
+			connection.disconnect();
+		}
+	}
+	
+	// -------------------------------------------- //
+	// UTIL
+	// -------------------------------------------- //
+	
+	private static HttpURLConnection createConnection(String url) throws Exception
+	{
+		URL target = new URI(url).toURL();
+		HttpURLConnection connection = (HttpURLConnection) target.openConnection();
+		connection.setConnectTimeout(TIMEOUT_MILLIS);
+		connection.setReadTimeout(TIMEOUT_MILLIS);
+		connection.setUseCaches(false);
+		connection.setDoInput(true);
+		return connection;
+	}
+	
+	private static String read(HttpURLConnection connection) throws Exception
+	{
+		if (connection.getResponseCode() == HttpURLConnection.HTTP_NO_CONTENT) return null;
+		
+		ByteArrayOutputStream ret = new ByteArrayOutputStream();
+		try (InputStream stream = connection.getInputStream())
+		{
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = stream.read(buffer)) != -1)
+			{
+				ret.write(buffer, 0, read);
+			}
+		}
+		
+		if (ret.size() == 0) return null;
+		return new String(ret.toByteArray(), StandardCharsets.UTF_8);
+	}
+	
+}
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -170,9 +169,30 @@ public class Mson implements Serializable
 	protected String getInheritedInsertion() { return this.hasParent() ? this.getParent().getEffectiveInsertion() : null; }
 
 	// The other parts of the message
+	// They are stored as given, so msons derived from this one share them instead of copying them.
+	// Their parent is only set when they are asked for through getExtra.
 	private final List<Mson> extra;
-	public List<Mson> getExtra() { return this.extra; }
-	public boolean hasExtra() { return this.getExtra() != null; }
+	List<Mson> getExtraShared() { return this.extra; }
+	public boolean hasExtra() { return this.extra != null; }
+	
+	private transient List<Mson> extraParented;
+	public List<Mson> getExtra()
+	{
+		if (this.extra == null) return null;
+		
+		List<Mson> ret = this.extraParented;
+		if (ret != null) return ret;
+		
+		Mson[] extras = new Mson[this.extra.size()];
+		for (int i = 0; i < extras.length; i++)
+		{
+			extras[i] = this.extra.get(i).parent(this);
+		}
+		ret = ImmutableList.copyOf(extras);
+		
+		this.extraParented = ret;
+		return ret;
+	}
 
 	// Parent & Root
 	private final transient Mson parent;
@@ -315,10 +335,12 @@ public class Mson implements Serializable
 	
 	public Mson add(Iterable<?> parts)
 	{
-		List<Mson> extra = new MassiveList<>(this.getExtra());
 		List<Mson> msons = msons(parts);
+		
+		ImmutableList.Builder<Mson> extra = ImmutableList.builder();
+		if (this.extra != null) extra.addAll(this.extra);
 		extra.addAll(msons);
-		return this.extra(extra);
+		return this.extra(extra.build());
 	}
 	
 	// -------------------------------------------- //
@@ -435,7 +457,7 @@ public class Mson implements Serializable
 			this.getEffectiveEvent(MsonEventType.CLICK),
 			this.getEffectiveEvent(MsonEventType.HOVER),
 			this.getEffectiveInsertion(),
-			this.getExtra(),
+			this.extra,
 			null
 		);
 	}
@@ -502,21 +524,8 @@ public class Mson implements Serializable
 		if (extra != null && extra.size() == 0) extra = null;
 		
 		// Extra
-		if (extra != null)
-		{
-			Mson[] extras = new Mson[extra.size()];
-			for (ListIterator<Mson> it = extra.listIterator(); it.hasNext();)
-			{
-				int i = it.nextIndex();
-				Mson part = it.next();
-				extras[i] = part.parent(this);
-			}
-			this.extra = ImmutableList.copyOf(extras);
-		}
-		else
-		{
-			this.extra = null;
-		}
+		// Copying an ImmutableList returns the list itself, so unchanged extras are shared.
+		this.extra = (extra != null ? ImmutableList.copyOf(extra) : null);
 		
 		// Parent
 		if (this == parent) throw new IllegalArgumentException("Parent can't be oneself.");
@@ -0,0 +1,78 @@
+package com.massivecraft.massivecore.mson;
+
+import com.google.common.collect.ImmutableList;
+
+// Msons are immutable, so each add creates a new mson with all the extras so far.
+// When a message is put together from many parts, collect them here and create the mson once.
+public class MsonBuilder
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// The mson the parts are added to.
+	private Mson base;
+	public Mson getBase() { return this.base; }
+	public MsonBuilder setBase(Mson base) { this.base = base; return this; }
+	
+	private final ImmutableList.Builder<Mson> parts = ImmutableList.builder();
+	private int size = 0;
+	public int size() { return this.size; }
+	public boolean isEmpty() { return this.size == 0; }
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public MsonBuilder()
+	{
+		this(Mson.mson());
+	}
+	
+	public MsonBuilder(Mson base)
+	{
+		if (base == null) throw new NullPointerException("base");
+		this.base = base;
+	}
+	
+	// -------------------------------------------- //
+	// ADD
+	// -------------------------------------------- //
+	// Accepts the same parts as Mson#add.
+	
+	public MsonBuilder add(Object part)
+	{
+		this.parts.add(Mson.mson(part));
+		this.size++;
+		return this;
+	}
+	
+	public MsonBuilder add(Object... parts)
+	{
+		for (Object part : parts)
+		{
+			this.add(part);
+		}
+		return this;
+	}
+	
+	public MsonBuilder addAll(Iterable<?> parts)
+	{
+		for (Object part : parts)
+		{
+			this.add(part);
+		}
+		return this;
+	}
+	
+	// -------------------------------------------- //
+	// BUILD
+	// -------------------------------------------- //
+	
+	public Mson build()
+	{
+		if (this.isEmpty()) return this.base;
+		return this.base.add(this.parts.build());
+	}
+	
+}
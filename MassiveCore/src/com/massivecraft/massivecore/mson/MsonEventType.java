@@ -28,7 +28,7 @@ public abstract class MsonEventType
 				event,
 				mson.getEvent(HOVER),
 				mson.getInsertion(),
-				mson.getExtra(),
+				mson.getExtraShared(),
 				mson.getParent()
 			);
 		}
@@ -56,7 +56,7 @@ public abstract class MsonEventType
 				mson.getEvent(CLICK),
 				event,
 				mson.getInsertion(),
-				mson.getExtra(),
+				mson.getExtraShared(),
 				mson.getParent()
 			);
 		}
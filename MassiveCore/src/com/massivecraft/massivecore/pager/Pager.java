@@ -94,6 +94,13 @@ public class Pager<T>
 	public Pager<T> setItems(Collection<? extends T> items) { this.items = items; return this; }
 	public Collection<? extends T> getItems() { return this.items; }
 	
+	// The source of the items we are paging. Used instead of the items when set.
+	// Only the page shown is taken from it, so the items on other pages need not be sorted or copied.
+	protected PagerSource<? extends T> source = null;
+	public boolean hasSource() { return this.source != null; }
+	public Pager<T> setSource(PagerSource<? extends T> source) { this.source = source; return this; }
+	public PagerSource<? extends T> getSource() { return this.source; }
+	
 	// The method of converting from item to Mson.
 	protected Msonifier<T> msonifier = null;
 	public boolean hasMsonifier() { return this.msonifier != null; }
@@ -161,9 +168,15 @@ public class Pager<T>
 	// CORE
 	// -------------------------------------------- //
 	
+	public int getItemsSize()
+	{
+		if (this.hasSource()) return this.getSource().size();
+		return this.getItems().size();
+	}
+	
 	public int size()
 	{
-		return (int) Math.ceil((double) this.getItems().size() / this.getHeight());
+		return (int) Math.ceil((double) this.getItemsSize() / this.getHeight());
 	}
 	
 	public boolean isValid(int number)
@@ -176,6 +189,7 @@ public class Pager<T>
 	
 	public boolean isEmpty()
 	{
+		if (this.hasSource()) return this.getSource().size() == 0;
 		return this.getItems().isEmpty();
 	}
 	
@@ -185,29 +199,38 @@ public class Pager<T>
 		// Return null if the page number is invalid
 		if ( ! this.isValid(number)) return null;
 		
-		// Forge list from collection
-		List<T> items = null;
-		if (this.getItems() instanceof List)
+		// Calculate from and to
+		int index = number - 1;
+		int from = index * this.getHeight();
+		
+		// Take the page from the source
+		if (this.hasSource())
 		{
-			items = (List<T>) this.getItems();
+			return new ArrayList<>(this.getSource().get(from, this.getHeight()));
 		}
-		else
+		
+		// Pick them from a list
+		if (this.getItems() instanceof List)
 		{
-			items = new ArrayList<>(this.getItems());
+			List<T> items = (List<T>) this.getItems();
+			int to = from + this.getHeight();
+			if (to > items.size())
+			{
+				to = items.size();
+			}
+			return items.subList(from, to);
 		}
 		
-		int index = number - 1;
-		
-		// Calculate from and to
-		int from = index * this.getHeight();
-		int to = from + this.getHeight();
-		if (to > items.size())
+		// Walk the collection to the page rather than copying all of it
+		List<T> ret = new ArrayList<>(this.getHeight());
+		int i = 0;
+		for (T item : this.getItems())
 		{
-			to = items.size();
+			if (ret.size() >= this.getHeight()) break;
+			if (i++ < from) continue;
+			ret.add(item);
 		}
-		
-		// Pick them
-		return items.subList(from, to);
+		return ret;
 	}
 	
 	// -------------------------------------------- //
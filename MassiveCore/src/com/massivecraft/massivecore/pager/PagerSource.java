@@ -0,0 +1,13 @@
+package com.massivecraft.massivecore.pager;
+
+import java.util.List;
+
+// Supplies a Pager with only the page it shows, rather than all the items.
+public interface PagerSource<T>
+{
+	// The total amount of items.
+	int size();
+	
+	// The items from the offset in order, at most limit of them.
+	List<T> get(int offset, int limit);
+}
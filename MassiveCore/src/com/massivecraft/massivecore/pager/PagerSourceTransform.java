@@ -0,0 +1,67 @@
+package com.massivecraft.massivecore.pager;
+
+import com.massivecraft.massivecore.util.MUtil;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+// The items matching a predicate in the order of a comparator.
+// Each page is selected with MUtil.transform so only the items up to that page are ever sorted.
+public class PagerSourceTransform<T> implements PagerSource<T>
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	private final Iterable<? extends T> items;
+	private final Predicate<? super T> where;
+	private final Comparator<? super T> orderby;
+	
+	// Counting the matches is a full pass so we only do it once.
+	private int size = -1;
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public PagerSourceTransform(Iterable<? extends T> items, Predicate<? super T> where, Comparator<? super T> orderby)
+	{
+		if (items == null) throw new NullPointerException("items");
+		this.items = items;
+		this.where = where;
+		this.orderby = orderby;
+	}
+	
+	public PagerSourceTransform(Iterable<? extends T> items, Comparator<? super T> orderby)
+	{
+		this(items, null, orderby);
+	}
+	
+	// -------------------------------------------- //
+	// OVERRIDE
+	// -------------------------------------------- //
+	
+	@Override
+	public int size()
+	{
+		if (this.size >= 0) return this.size;
+		
+		int ret = 0;
+		for (T item : this.items)
+		{
+			if (this.where != null && ! this.where.test(item)) continue;
+			ret++;
+		}
+		this.size = ret;
+		return ret;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<T> get(int offset, int limit)
+	{
+		return MUtil.transform((Iterable<T>) this.items, this.where, this.orderby, limit, offset);
+	}
+	
+}
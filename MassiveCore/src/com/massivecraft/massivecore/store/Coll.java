@@ -13,6 +13,7 @@ import com.massivecraft.massivecore.collections.MassiveList;
 import com.massivecraft.massivecore.comparator.ComparatorNaturalOrder;
 import com.massivecraft.massivecore.entity.MassiveCoreMConf;
 import com.massivecraft.massivecore.mixin.MixinModification;
+import com.massivecraft.massivecore.store.cleanable.CleaningIndex;
 import com.massivecraft.massivecore.store.migrator.MigratorUtil;
 import com.massivecraft.massivecore.util.MUtil;
 import com.massivecraft.massivecore.util.Txt;
@@ -147,6 +148,27 @@ public class Coll<E extends Entity<E>> extends CollAbstract<E>
 	public boolean isCleanTaskEnabled() { return this.cleanTaskEnabled; }
 	public void setCleanTaskEnabled(boolean cleanTaskEnabled) { this.cleanTaskEnabled = cleanTaskEnabled; }
 	
+	// Created by the first cleaning. Changed entities are only marked dirty here.
+	// The cleaning passes read them into the index over several ticks.
+	private volatile CleaningIndex cleaningIndex = null;
+	public CleaningIndex getCleaningIndex()
+	{
+		CleaningIndex ret = this.cleaningIndex;
+		if (ret != null) return ret;
+		synchronized (this)
+		{
+			if (this.cleaningIndex == null) this.cleaningIndex = new CleaningIndex(this.getIds());
+			return this.cleaningIndex;
+		}
+	}
+	
+	protected void markCleaningIndexDirty(String id)
+	{
+		CleaningIndex cleaningIndex = this.cleaningIndex;
+		if (cleaningIndex == null) return;
+		cleaningIndex.markDirty(id);
+	}
+	
 	// -------------------------------------------- //
 	// IDENTIFIED MODIFICATIONS
 	// -------------------------------------------- //
@@ -159,6 +181,8 @@ public class Coll<E extends Entity<E>> extends CollAbstract<E>
 		if (id == null) throw new NullPointerException("id");
 		if (modification == null) throw new NullPointerException("modification");
 		
+		this.markCleaningIndexDirty(id);
+		
 		Modification old = this.identifiedModifications.get(id);
 		if (old != null && modification.getPriority() <= old.getPriority()) return;
 		this.identifiedModifications.put(id, modification);
@@ -221,6 +245,7 @@ public class Coll<E extends Entity<E>> extends CollAbstract<E>
 		
 		E entity = this.idToEntity.remove(id);
 		if (entity == null) return null;
+		this.markCleaningIndexDirty(id);
 		entity.clearSyncLogFields();
 		
 		// Remove entity reference info
@@ -359,6 +384,7 @@ public class Coll<E extends Entity<E>> extends CollAbstract<E>
 
 		// Now the loading is done. If it was migrated we will have to save it to remote again.
 		if (migrated) this.putIdentifiedModificationFixed(id, Modification.LOCAL_ALTER);
+		this.markCleaningIndexDirty(id);
 	}
 	
 	public boolean remoteEntryIsOk(String id, Entry<JsonObject, Long> remoteEntry)
@@ -9,10 +9,14 @@ import com.massivecraft.massivecore.predicate.Predicate;
 import com.massivecraft.massivecore.util.IdUtil;
 import com.massivecraft.massivecore.util.MUtil;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SenderColl<E extends SenderEntity<E>> extends Coll<E> implements SenderIdSource
 {
@@ -55,16 +59,28 @@ public class SenderColl<E extends SenderEntity<E>> extends Coll<E> implements Se
 	public E get(Object oid)
 	{
 		if (oid == null) throw new NullPointerException("oid");
+		
+		E ret = this.getPresent(oid);
+		if (ret != null) return ret;
+		
 		if (MUtil.isNpc(oid)) return null;
-		return super.get(oid);
+		ret = super.get(oid);
+		this.putPresent(oid, ret);
+		return ret;
 	}
 	
 	@Override
 	public E get(Object oid, boolean creative)
 	{
 		if (oid == null) throw new NullPointerException("oid");
+		
+		E ret = this.getPresent(oid);
+		if (ret != null) return ret;
+		
 		if (MUtil.isNpc(oid)) return null;
-		return super.get(oid, creative);
+		ret = super.get(oid, creative);
+		this.putPresent(oid, ret);
+		return ret;
 	}
 	
 	@Override
@@ -162,12 +178,72 @@ public class SenderColl<E extends SenderEntity<E>> extends Coll<E> implements Se
 		return this.getAll(PREDICATE_OFFLINE);
 	}
 	
+	// -------------------------------------------- //
+	// PRESENT PLAYERS
+	// -------------------------------------------- //
+	// The entities of the players on this server by their UUID.
+	// Players are looked up for most events, and going through fixId creates a new id string every time.
+	// Entries are added when players are looked up while online, and removed along with their sender reference.
+	
+	protected final Map<UUID, E> presentUuidToEntity = new ConcurrentHashMap<>();
+	
+	protected E getPresent(Object oid)
+	{
+		if (this.presentUuidToEntity.isEmpty()) return null;
+		
+		UUID uuid = getPresentUuid(oid);
+		if (uuid == null) return null;
+		
+		E ret = this.presentUuidToEntity.get(uuid);
+		if (ret == null) return null;
+		if (ret.attached()) return ret;
+		
+		this.presentUuidToEntity.remove(uuid, ret);
+		return null;
+	}
+	
+	protected void putPresent(Object oid, E entity)
+	{
+		if (entity == null) return;
+		if ( ! (oid instanceof Player)) return;
+		
+		Player player = (Player) oid;
+		if ( ! player.isOnline()) return;
+		
+		UUID uuid = getPresentUuid(player);
+		if (uuid == null) return;
+		
+		this.presentUuidToEntity.put(uuid, entity);
+	}
+	
+	private static UUID getPresentUuid(Object oid)
+	{
+		if (oid instanceof UUID) return (UUID) oid;
+		if ( ! (oid instanceof Player)) return null;
+		
+		try
+		{
+			return ((Player) oid).getUniqueId();
+		}
+		catch (UnsupportedOperationException e)
+		{
+			// ProtocolLib: The method getUniqueId is not supported for temporary players.
+			return null;
+		}
+	}
+	
 	// -------------------------------------------- //
 	// SENDER REFERENCE MANAGEMENT
 	// -------------------------------------------- //
 	
 	protected void setSenderReference(String senderId, CommandSender sender)
 	{
+		 if (sender == null)
+		 {
+			 UUID uuid = MUtil.asUuid(senderId);
+			 if (uuid != null) this.presentUuidToEntity.remove(uuid);
+		 }
+		 
 		 E senderEntity = this.get(senderId, false);
 		 if (senderEntity == null) return;
 		 senderEntity.sender = sender;
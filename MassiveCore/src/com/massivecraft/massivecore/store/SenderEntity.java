@@ -82,6 +82,14 @@ public abstract class SenderEntity<E extends SenderEntity<E>> extends Entity<E>
 		return this.shouldBeCleaned(now, lastActivityMillis);
 	}
 	
+	@Override
+	public long getCleanActivityMillis()
+	{
+		Long lastActivityMillis = this.getLastPlayed();
+		if (lastActivityMillis == null) return Long.MIN_VALUE;
+		return lastActivityMillis;
+	}
+	
 	protected boolean shouldBeCleaned(long now, long lastActivityMillis)
 	{
 		// This means it is disabled for this coll
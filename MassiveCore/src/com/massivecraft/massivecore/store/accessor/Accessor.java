@@ -3,6 +3,9 @@ package com.massivecraft.massivecore.store.accessor;
 import com.massivecraft.massivecore.collections.MassiveMap;
 import com.massivecraft.massivecore.store.EntityInternalMap;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -21,7 +24,7 @@ public class Accessor
 	
 	private final Class<?> clazz;
 	public Class<?> getClazz() { return this.clazz; }
-		
+	
 	private Map<String, FieldAccessor> fieldToAccessor = new MassiveMap<>();
 	public Map<String, FieldAccessor> getFieldToAccessor() { return this.fieldToAccessor; }
 	
@@ -35,6 +38,39 @@ public class Accessor
 	public void setFieldAccessor(String fieldName, FieldAccessor fieldAccessor)
 	{
 		this.fieldToAccessor.put(fieldName, fieldAccessor);
+		this.copier = null;
+	}
+	
+	// The copies of the simple fields folded into a single method handle, so copying an entity is a single call.
+	// It is created by the first copy of all fields and dropped when the field accessors change.
+	private volatile Copier copier = null;
+	
+	private static class Copier
+	{
+		private final MethodHandle folded;
+		private final List<FieldAccessor> others = new ArrayList<>();
+		
+		private Copier(Collection<FieldAccessor> fieldAccessors)
+		{
+			// Starts out doing nothing and each field copy is folded in front of it
+			MethodHandle folded = MethodHandles.dropArguments(MethodHandles.constant(Object.class, null).asType(MethodType.methodType(void.class)), 0, Object.class, Object.class);
+			for (FieldAccessor fieldAccessor : fieldAccessors)
+			{
+				MethodHandle fieldCopier = fieldAccessor instanceof FieldAccessorSimple ? ((FieldAccessorSimple) fieldAccessor).getCopier() : null;
+				if (fieldCopier == null) this.others.add(fieldAccessor);
+				else folded = MethodHandles.foldArguments(folded, fieldCopier);
+			}
+			this.folded = folded;
+		}
+	}
+	
+	private Copier getCopier()
+	{
+		Copier ret = this.copier;
+		if (ret != null) return ret;
+		ret = new Copier(this.getFieldToAccessor().values());
+		this.copier = ret;
+		return ret;
 	}
 	
 	public Collection<String> getFieldNames()
@@ -106,13 +142,12 @@ public class Accessor
 		FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
 		fieldAccessor.set(object, val);
 	}
-
+	
 	// Copy one only!
 	public void copy(Object from, Object to, String fieldName)
 	{
 		FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
-		Object val = fieldAccessor.get(from);
-		fieldAccessor.set(to, val);
+		fieldAccessor.copy(from, to);
 	}
 	
 	// Copy a few!
@@ -127,10 +162,33 @@ public class Accessor
 	// Copy them all!
 	public void copy(Object from, Object to)
 	{
-		for (FieldAccessor fieldAccessor : this.getFieldToAccessor().values())
+		// The folded copy skips the per field checks, so they are done once here
+		if ( ! this.clazz.isInstance(from) || ! this.clazz.isInstance(to))
+		{
+			for (FieldAccessor fieldAccessor : this.getFieldToAccessor().values())
+			{
+				fieldAccessor.copy(from, to);
+			}
+			return;
+		}
+		
+		Copier copier = this.getCopier();
+		try
+		{
+			copier.folded.invokeExact(from, to);
+		}
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			e.printStackTrace();
+		}
+		
+		for (FieldAccessor fieldAccessor : copier.others)
 		{
-			Object val = fieldAccessor.get(from);
-			fieldAccessor.set(to, val);
+			fieldAccessor.copy(from, to);
 		}
 	}
 	
@@ -4,5 +4,10 @@ public interface FieldAccessor
 {
 	Object get(Object entity);
 	void set(Object entity, Object val);
+	
+	default void copy(Object from, Object to)
+	{
+		this.set(to, this.get(from));
+	}
 
 }
@@ -2,6 +2,7 @@ package com.massivecraft.massivecore.store.accessor;
 
 import com.massivecraft.massivecore.store.EntityInternalMap;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 public class FieldAccessorInternalEntityMap extends FieldAccessorSimple
@@ -27,5 +28,18 @@ public class FieldAccessorInternalEntityMap extends FieldAccessorSimple
 		
 		entityMap.load(that);
 	}
+	
+	// The entity map is loaded into rather than replaced so we must go through set.
+	@Override
+	public void copy(Object from, Object to)
+	{
+		this.set(to, this.get(from));
+	}
+	
+	@Override
+	MethodHandle getCopier()
+	{
+		return null;
+	}
 
 }
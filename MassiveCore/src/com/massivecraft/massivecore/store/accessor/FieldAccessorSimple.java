@@ -2,16 +2,39 @@ package com.massivecraft.massivecore.store.accessor;
 
 import com.massivecraft.massivecore.util.ReflectionUtil;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 public class FieldAccessorSimple implements FieldAccessor
 {
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final MethodType TYPE_GET = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType TYPE_SET = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType TYPE_COPY = MethodType.methodType(void.class, Object.class, Object.class);
+	
 	// -------------------------------------------- //
 	// FIELDS
 	// -------------------------------------------- //
 	
 	private final Field field;
 	
+	// Method handles skip the access checks Field#get and Field#set do on each call on older JVMs.
+	// They are kept in instance fields so the JIT can't constant fold them, and since Java 18 reflection is built on method handles too.
+	// The main gain is therefore the copy handle, which moves the value straight from one object to the other so primitives are never boxed.
+	// They are null if the handles could not be created, in which case we use the field itself.
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+	private final MethodHandle copier;
+	
+	// Accessor folds these together. Null if copy must be called instead.
+	MethodHandle getCopier() { return this.copier; }
+	
 	// -------------------------------------------- //
 	// CONSTRUCT
 	// -------------------------------------------- //
@@ -20,34 +43,99 @@ public class FieldAccessorSimple implements FieldAccessor
 	{
 		ReflectionUtil.makeAccessible(field);
 		this.field = field;
+		
+		MethodHandle getter = null;
+		MethodHandle setter = null;
+		MethodHandle copier = null;
+		if ( ! Modifier.isStatic(field.getModifiers()))
+		{
+			try
+			{
+				MethodHandle getterExact = MethodHandles.lookup().unreflectGetter(field);
+				MethodHandle setterExact = MethodHandles.lookup().unreflectSetter(field);
+				
+				getter = getterExact.asType(TYPE_GET);
+				setter = setterExact.asType(TYPE_SET);
+				
+				// (to, value) --> (to, from) --> (from, to)
+				MethodHandle copierExact = MethodHandles.filterArguments(setterExact, 1, getterExact);
+				copier = MethodHandles.permuteArguments(copierExact, MethodType.methodType(void.class, field.getDeclaringClass(), field.getDeclaringClass()), 1, 0).asType(TYPE_COPY);
+			}
+			catch (Exception e)
+			{
+				getter = null;
+				setter = null;
+				copier = null;
+			}
+		}
+		this.getter = getter;
+		this.setter = setter;
+		this.copier = copier;
 	}
 	
 	// -------------------------------------------- //
 	// CORE
 	// -------------------------------------------- //
 	
+	@Override
 	public Object get(Object entity)
 	{
 		if (!field.getDeclaringClass().isAssignableFrom(entity.getClass())) throw new IllegalArgumentException(field.getDeclaringClass() + " : " + entity.getClass());
 		
 		try
 		{
+			if (this.getter != null) return (Object) this.getter.invokeExact(entity);
 			return this.field.get(entity);
 		}
-		catch (Exception e)
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
 		{
 			e.printStackTrace();
 			return null;
 		}
 	}
 	
+	@Override
 	public void set(Object entity, Object val)
 	{
 		try
 		{
-			this.field.set(entity, val);
+			if (this.setter != null) this.setter.invokeExact(entity, val);
+			else this.field.set(entity, val);
+		}
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			e.printStackTrace();
+		}
+	}
+	
+	@Override
+	public void copy(Object from, Object to)
+	{
+		if (this.copier == null)
+		{
+			FieldAccessor.super.copy(from, to);
+			return;
+		}
+		
+		if (!field.getDeclaringClass().isAssignableFrom(from.getClass())) throw new IllegalArgumentException(field.getDeclaringClass() + " : " + from.getClass());
+		
+		try
+		{
+			this.copier.invokeExact(from, to);
+		}
+		catch (Error e)
+		{
+			throw e;
 		}
-		catch (Exception e)
+		catch (Throwable e)
 		{
 			e.printStackTrace();
 		}
@@ -9,6 +9,11 @@ public interface Cleanable
 	boolean shouldBeCleaned(long now);
 	Coll<?> getColl();
 	
+	// The millis of the last activity, used to order the entities when cleaning.
+	// shouldBeCleaned must not return true before these millis plus the inactivity tolerance of the coll.
+	// Long.MIN_VALUE means unknown and the entity is then considered on every cleaning.
+	default long getCleanActivityMillis() { return Long.MIN_VALUE; }
+	
 	void preClean();
 	void postClean();
 }
@@ -0,0 +1,152 @@
+package com.massivecraft.massivecore.store.cleanable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+// The entities of a coll ordered by their clean activity millis.
+// A cleaning pass only has to look at the start of the order, where the entities inactive for long enough are.
+//
+// The millis indexed for an entity may be older than its current ones, for example when they come from a mixin.
+// Every entry is verified against the entity before it is used, so the index only has to be a lower bound.
+// The coll marks an entity dirty when it is attached, changed, loaded from remote or removed.
+// That only remembers the id, so changing entities costs next to nothing.
+// The cleaning passes read the dirty entities into the index a few at a time before they walk it.
+// The index starts out with every entity dirty, so building it never stalls a tick either.
+public class CleaningIndex
+{
+	// -------------------------------------------- //
+	// ENTRY
+	// -------------------------------------------- //
+	
+	public static class Entry
+	{
+		private final long millis;
+		public long getMillis() { return this.millis; }
+		
+		private final String id;
+		public String getId() { return this.id; }
+		
+		public Entry(long millis, String id)
+		{
+			this.millis = millis;
+			this.id = id;
+		}
+	}
+	
+	private static final Comparator<Entry> COMPARATOR = Comparator.comparingLong(Entry::getMillis).thenComparing(Entry::getId);
+	
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	private final NavigableSet<Entry> entries = new TreeSet<>(COMPARATOR);
+	private final Map<String, Entry> idToEntry = new HashMap<>();
+	
+	// The ids not yet read into the index, or changed since they were.
+	private final LinkedHashSet<String> dirtyIds;
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public CleaningIndex(Collection<String> ids)
+	{
+		this.dirtyIds = new LinkedHashSet<>(ids);
+	}
+	
+	// -------------------------------------------- //
+	// FILL
+	// -------------------------------------------- //
+	
+	public synchronized void markDirty(String id)
+	{
+		if (id == null) throw new NullPointerException("id");
+		this.dirtyIds.add(id);
+	}
+	
+	public synchronized boolean isFilled()
+	{
+		return this.dirtyIds.isEmpty();
+	}
+	
+	// Reads the dirty entities from the map until done or until System.nanoTime passes the deadline.
+	// At least one entity is read per call. Returns true when the index is filled.
+	public boolean fill(Map<String, ?> idToEntity, long deadlineNano)
+	{
+		if (idToEntity == null) throw new NullPointerException("idToEntity");
+		
+		while (true)
+		{
+			synchronized (this)
+			{
+				Iterator<String> iterator = this.dirtyIds.iterator();
+				if ( ! iterator.hasNext()) return true;
+				String id = iterator.next();
+				iterator.remove();
+				
+				this.update(id, idToEntity.get(id));
+			}
+			
+			if (System.nanoTime() - deadlineNano >= 0) return this.isFilled();
+		}
+	}
+	
+	// -------------------------------------------- //
+	// UPDATE
+	// -------------------------------------------- //
+	
+	// Pass a null entity if it was removed.
+	public synchronized void update(String id, Object entity)
+	{
+		if (id == null) throw new NullPointerException("id");
+		
+		Entry old = this.idToEntry.get(id);
+		if ( ! (entity instanceof Cleanable))
+		{
+			if (old == null) return;
+			this.entries.remove(old);
+			this.idToEntry.remove(id);
+			return;
+		}
+		
+		long millis = ((Cleanable) entity).getCleanActivityMillis();
+		if (old != null)
+		{
+			if (old.getMillis() == millis) return;
+			this.entries.remove(old);
+		}
+		
+		Entry entry = new Entry(millis, id);
+		this.entries.add(entry);
+		this.idToEntry.put(id, entry);
+	}
+	
+	// -------------------------------------------- //
+	// QUERY
+	// -------------------------------------------- //
+	
+	// Returns the first entry after the cursor with millis at or before the max.
+	// Entities may be missing until the index is filled.
+	// A null cursor starts from the beginning. Returns null when there are no more.
+	public synchronized Entry getNext(Entry cursor, long maxMillis)
+	{
+		Entry ret;
+		if (cursor == null) ret = (this.entries.isEmpty() ? null : this.entries.first());
+		else ret = this.entries.higher(cursor);
+		if (ret == null) return null;
+		if (ret.getMillis() > maxMillis) return null;
+		return ret;
+	}
+	
+	public synchronized int size()
+	{
+		return this.idToEntry.size();
+	}
+	
+}
@@ -0,0 +1,117 @@
+package com.massivecraft.massivecore.store.cleanable;
+
+import com.massivecraft.massivecore.mixin.MixinMessage;
+import com.massivecraft.massivecore.store.Coll;
+import com.massivecraft.massivecore.store.Entity;
+import com.massivecraft.massivecore.store.SenderColl;
+import com.massivecraft.massivecore.util.MUtil;
+import com.massivecraft.massivecore.util.Txt;
+import org.bukkit.command.CommandSender;
+
+// A cleaning of a single coll that can be spread over several ticks.
+// Rather than asking every entity, it walks the CleaningIndex of the coll from the least recently active entity.
+// It stops at the first entity that was active within the inactivity tolerance of the coll.
+// The cleaned entities are the same as with CleaningUtil.considerClean as long as the tolerance causes are not negative.
+public class CleaningPass
+{
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	private final long now;
+	private final Coll<?> coll;
+	public Coll<?> getColl() { return this.coll; }
+	private final Iterable<CommandSender> recipients;
+	
+	// Entities active after these millis are not considered.
+	private final long maxActivityMillis;
+	
+	// Where to continue in the index.
+	private CleaningIndex.Entry cursor = null;
+	
+	private int count = 0;
+	private long nano = 0;
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	public CleaningPass(long now, Coll<?> coll, Iterable<CommandSender> recipients)
+	{
+		if (coll == null) throw new NullPointerException("coll");
+		if (recipients == null) throw new NullPointerException("recipients");
+		
+		this.now = now;
+		this.coll = coll;
+		this.recipients = recipients;
+		
+		long toleranceMillis = 0;
+		if (coll instanceof SenderColl<?>) toleranceMillis = Math.max(0, ((SenderColl<?>) coll).getCleanInactivityToleranceMillis());
+		this.maxActivityMillis = now - toleranceMillis;
+	}
+	
+	// -------------------------------------------- //
+	// RUN
+	// -------------------------------------------- //
+	
+	// Cleans until done or until System.nanoTime passes the deadline.
+	// At least one entity is considered per call. Returns true when done.
+	public boolean run(long deadlineNano)
+	{
+		final long start = System.nanoTime();
+		final CleaningIndex index = this.coll.getCleaningIndex();
+		
+		// The first cleaning of a coll fills its index, spread over ticks just like the cleaning itself.
+		// Later the entities changed since the last tick are read in the same way.
+		if ( ! index.fill(this.coll.getIdToEntityRaw(), deadlineNano))
+		{
+			this.nano += System.nanoTime() - start;
+			return false;
+		}
+		
+		while (true)
+		{
+			CleaningIndex.Entry entry = index.getNext(this.cursor, this.maxActivityMillis);
+			if (entry == null)
+			{
+				this.nano += System.nanoTime() - start;
+				this.report();
+				return true;
+			}
+			this.cursor = entry;
+			
+			// The indexed millis might be old so we let the entity decide.
+			Entity<?> entity = this.coll.getFixed(entry.getId());
+			if (entity != null)
+			{
+				if (CleaningUtil.considerClean(this.now, entity)) this.count++;
+				else index.update(entry.getId(), entity);
+			}
+			else
+			{
+				index.update(entry.getId(), null);
+			}
+			
+			if (System.nanoTime() - deadlineNano >= 0) break;
+		}
+		
+		this.nano += System.nanoTime() - start;
+		return false;
+	}
+	
+	// The time is the sum of the time spent in all ticks, in milliseconds.
+	// Before the cleaning was spread over ticks the report divided the nanoseconds by 1000 and therefore showed microseconds.
+	private void report()
+	{
+		int current = this.coll.getIds().size();
+		int total = current + this.count;
+		double percentage = (((double) this.count) / total) * 100D;
+		if (!MUtil.isFinite(percentage)) percentage = 0D;
+		String message = Txt.parse("<i>Removed <h>%d<i>/<h>%d (%.2f%%) <i>entities from <h>%s <i>took <v>%.2fms<i>.", this.count, total, percentage, this.coll.getName(), this.nano/1000000D);
+		for (CommandSender recipient : this.recipients)
+		{
+			MixinMessage.get().messageOne(recipient, message);
+		}
+	}
+	
+}
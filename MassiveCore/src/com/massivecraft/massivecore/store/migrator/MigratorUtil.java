@@ -12,13 +12,17 @@ import com.massivecraft.massivecore.util.ReflectionUtil;
 import com.massivecraft.massivecore.util.Txt;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MigratorUtil
 {
@@ -46,6 +50,8 @@ public class MigratorUtil
 
 		// If there was an old one and it wasn't this one already: deactivate.
 		if (old != null && old != migrator) old.setActive(false);
+
+		clearPlans();
 	}
 
 	// REMOVE
@@ -55,6 +61,8 @@ public class MigratorUtil
 
 		// If there wasn't a new one already: remove
 		if (current == migrator) getMigratorMap(migrator).remove(migrator.getVersion());
+
+		clearPlans();
 	}
 
 	// GET
@@ -98,6 +106,7 @@ public class MigratorUtil
 	public static void setTargetVersion(Class<?> clazz, int targetVersion)
 	{
 		targetVersions.put(clazz, targetVersion);
+		clearPlans();
 	}
 	
 	// GET
@@ -134,6 +143,7 @@ public class MigratorUtil
 	public static void addJsonRepresentation(Class<?> clazz, Type representation)
 	{
 		jsonRepresentation.put(clazz, representation);
+		clearPlans();
 	}
 	
 	// GET
@@ -174,6 +184,7 @@ public class MigratorUtil
 		
 		if (jsonElement.isJsonNull()) return false;
 		if (jsonElement.isJsonPrimitive()) return false;
+		if ( ! isMigratable(realType)) return false;
 		
 		Type jsonType = getJsonRepresentation(realType);
 
@@ -233,11 +244,16 @@ public class MigratorUtil
 
 	private static boolean migrateObject(Type realType, Type jsonType, JsonObject object)
 	{
-		boolean migrated = false;
 		Type classType = jsonType != null ? jsonType : realType;
-		migrated = migrateClass(classType, object) | migrated;
-		if (jsonType != null) migrated = migrateFields(jsonType, object) | migrated;
-		return migrated;
+		boolean migrated = migrateClass(classType, object);
+		
+		// Fast path: Nothing below this object can be versioned, so its own version was all there was to check.
+		// An entity at its target version is then done without looking at its json at all.
+		// Objects with versioned fields, like a Board holding TerritoryAccess, still need the walk.
+		// Those fields are versioned on their own and may be behind while the object itself is current.
+		if (jsonType == null || ! hasMigratableFields(jsonType)) return migrated;
+		
+		return migrateFields(jsonType, object) | migrated;
 	}
 
 	private static boolean migrateComplexMap(ParameterizedType parameterizedType, JsonArray array)
@@ -337,30 +353,20 @@ public class MigratorUtil
 		// because their "fields" are dynamically made and can't be looked up with reflection
 		if (Map.class.isAssignableFrom(entityClass)) return false;
 		
+		// Only the fields that can contain a versioned object are worth looking at
+		Map<String, Type> fieldTypes = getMigratableFieldTypes(entityClass);
+		if (fieldTypes.isEmpty()) return false;
+		
 		boolean migrated = false;
 		for (Map.Entry<String, JsonElement> entry : object.entrySet())
 		{
 			String name = entry.getKey();
 			JsonElement element = entry.getValue();
 
-			// It might be defined in a superclass, so find the defining class
-			Class<?> superClass = ReflectionUtil.getSuperclassDeclaringField(entityClass, true, name);
+			// Probably the field doesn't exist anymore or it can't contain anything to migrate.
+			Type elementType = fieldTypes.get(name);
+			if (elementType == null) continue;
 			
-			// Try find field if it has a different serialisation name
-			if (superClass == null) {
-				Field field = tryFindField(entityClass, name);
-				if (field != null) {
-					name = field.getName();
-					superClass = entityClass;
-				}
-			}
-			if (superClass == null)
-			{
-				// Probably the field doesn't exist anymore, so this error is disabled.
-				//throw new RuntimeException(type.getTypeName() + " : " + name);
-				continue;
-			}
-			Type elementType = ReflectionUtil.getField(superClass, name).getGenericType();
 			try
 			{
 				migrated = migrate(elementType, element) | migrated;
@@ -368,27 +374,176 @@ public class MigratorUtil
 				System.out.println("FAILURE FOR FIELD: " + name);
 				throw e;
 			}
-			migrated = migrate(elementType, element) | migrated;
 		}
 		
 		return migrated;
 	}
 	
-	private static Field tryFindField(Class<?> clazz, String name)
+	// -------------------------------------------- //
+	// MIGRATION PLAN
+	// -------------------------------------------- //
+	// Most of the json tree of an entity can never contain a versioned object.
+	// Which types can is worked out once and the rest of the tree is skipped entirely.
+	// Only the declared types matter since those are all the migration looks at.
+	
+	// Type --> Can a json element of this type contain a versioned object?
+	private static final Map<Type, Boolean> migratableTypes = new ConcurrentHashMap<>();
+	
+	// Class --> Json field name --> Field type, for the fields with a migratable type
+	private static final Map<Class<?>, Map<String, Type>> migratableFieldTypes = new ConcurrentHashMap<>();
+	
+	public static void clearPlans()
 	{
-		for (Field field : clazz.getDeclaredFields())
+		migratableTypes.clear();
+		migratableFieldTypes.clear();
+	}
+	
+	public static boolean isMigratable(Type type)
+	{
+		if (type == null) throw new NullPointerException("type");
+		
+		Boolean ret = migratableTypes.get(type);
+		if (ret != null) return ret;
+		
+		ret = calcMigratable(type, new HashSet<>());
+		migratableTypes.put(type, ret);
+		return ret;
+	}
+	
+	// A type visited a second time is skipped.
+	// If it can contain a versioned object, that is found through the first visit.
+	// That is also why only positive answers for the inner types are remembered.
+	private static boolean calcMigratable(Type type, Set<Type> visited)
+	{
+		Boolean known = migratableTypes.get(type);
+		if (known != null) return known;
+		if ( ! visited.add(type)) return false;
+		
+		boolean ret;
+		try
 		{
-			SerializedName serializedName = field.getAnnotation(SerializedName.class);
-			if (serializedName == null) continue;
-			
-			if (serializedName.value().equals(name))
+			ret = calcMigratableInner(type, visited);
+		}
+		catch (RuntimeException | LinkageError e)
+		{
+			// Some class in there could not be inspected, for example because it belongs to a plugin that is not installed.
+			// Leave it to the full migration, which only inspects the classes that actually have data.
+			ret = true;
+		}
+		if (ret) migratableTypes.put(type, true);
+		return ret;
+	}
+	
+	private static boolean calcMigratableInner(Type type, Set<Type> visited)
+	{
+		if (type instanceof Class<?> && ((Class<?>) type).isPrimitive()) return false;
+		
+		// Type variables, wildcards and the like are left to the full migration.
+		Type jsonType = getJsonRepresentation(type);
+		if ( ! (jsonType instanceof Class<?>) && ! (jsonType instanceof ParameterizedType)) return true;
+		Class<?> clazz = getClassType(jsonType);
+		
+		if (isVersioned(clazz)) return true;
+		
+		if (clazz.isArray()) return calcMigratable(clazz.getComponentType(), visited);
+		
+		if (Map.class.isAssignableFrom(clazz) || Map.Entry.class.isAssignableFrom(clazz) || Collection.class.isAssignableFrom(clazz))
+		{
+			ParameterizedType parameterizedType = findParameterizedType(jsonType);
+			if (parameterizedType == null) return true;
+			for (Type argument : parameterizedType.getActualTypeArguments())
 			{
-				return field;
+				if (calcMigratable(argument, visited)) return true;
 			}
+			if (Map.class.isAssignableFrom(clazz)) return false;
 		}
+		
+		for (Type fieldType : getFieldTypes(clazz).values())
+		{
+			if (calcMigratable(fieldType, visited)) return true;
+		}
+		return false;
+	}
+	
+	private static boolean isVersioned(Class<?> clazz)
+	{
+		if (ReflectionUtil.getSuperclassDeclaringField(clazz, true, VERSION_FIELD_NAME) != null) return true;
+		
+		Integer targetVersion = targetVersions.get(clazz);
+		if (targetVersion != null && targetVersion != 0) return true;
+		
+		Map<Integer, MigratorRoot> migratorMap = migrators.get(clazz);
+		return migratorMap != null && ! migratorMap.isEmpty();
+	}
+	
+	// Like getParameterizedType but returns null instead of failing.
+	private static ParameterizedType findParameterizedType(Type type)
+	{
+		while (type instanceof Class<?>)
+		{
+			type = ((Class<?>) type).getGenericSuperclass();
+		}
+		if (type instanceof ParameterizedType) return (ParameterizedType) type;
 		return null;
 	}
 	
+	private static Map<String, Type> getMigratableFieldTypes(Class<?> clazz)
+	{
+		Map<String, Type> ret = migratableFieldTypes.get(clazz);
+		if (ret != null) return ret;
+		
+		ret = new HashMap<>();
+		for (Map.Entry<String, Type> entry : getFieldTypes(clazz).entrySet())
+		{
+			if ( ! isMigratable(entry.getValue())) continue;
+			ret.put(entry.getKey(), entry.getValue());
+		}
+		
+		migratableFieldTypes.put(clazz, ret);
+		return ret;
+	}
+	
+	private static boolean hasMigratableFields(Type type)
+	{
+		Class<?> clazz = getClassType(type);
+		if (Map.class.isAssignableFrom(clazz)) return false;
+		return ! getMigratableFieldTypes(clazz).isEmpty();
+	}
+	
+	// Json field name --> Field type
+	// Static and transient fields are never serialised so they are left out.
+	private static Map<String, Type> getFieldTypes(Class<?> clazz)
+	{
+		Map<String, Type> ret = new HashMap<>();
+		
+		// It might be defined in a superclass. The field closest to the class wins.
+		for (Class<?> superClass : ReflectionUtil.getSuperclasses(clazz, true))
+		{
+			for (Field field : superClass.getDeclaredFields())
+			{
+				if (isSkipped(field)) continue;
+				ret.putIfAbsent(field.getName(), field.getGenericType());
+			}
+		}
+		
+		// The field might have a different serialisation name
+		for (Field field : clazz.getDeclaredFields())
+		{
+			if (isSkipped(field)) continue;
+			SerializedName serializedName = field.getAnnotation(SerializedName.class);
+			if (serializedName == null) continue;
+			ret.putIfAbsent(serializedName.value(), field.getGenericType());
+		}
+		
+		return ret;
+	}
+	
+	private static boolean isSkipped(Field field)
+	{
+		int modifiers = field.getModifiers();
+		return Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers);
+	}
+	
 	// -------------------------------------------- //
 	// MISSING MIGRATORS
 	// -------------------------------------------- //
@@ -1378,25 +1378,64 @@ public class InventoryUtil
 		event.run();
 
 		List<Entry<String, Integer>> entries = event.getLore();
+		sortLoreEntries(entries);
+		return getLoreLines(entries);
+	}
+
+	public static void sortLore(ItemStack item)
+	{
+		// Most items have no meta at all and are skipped without copying any.
+		ItemMeta meta = getMeta(item);
+		if (meta == null || ! meta.hasLore()) return;
+
+		// A single line is always in order.
+		List<String> lore = meta.getLore();
+		if (lore.size() < 2) return;
+
+		EventMassiveCoreLorePriority event = new EventMassiveCoreLorePriority(item, lore);
+		event.run();
+
+		// The sort is stable so lore that is already in order would not move.
+		// In that case we leave the item meta alone.
+		List<Entry<String, Integer>> entries = event.getLore();
+		if (isLoreEntriesSorted(entries)) return;
+
+		sortLoreEntries(entries);
+		meta.setLore(getLoreLines(entries));
+		item.setItemMeta(meta);
+	}
+
+	private static Comparator<Entry<? super String, ? super Integer>> getLoreEntryComparator()
+	{
 		// Note: Comparator cast is necessary for Maven to compile, even if the IDE doesn't complain.
-		Comparator<Entry<? super String, ? super Integer>> comparator = (Comparator) ComparatorEntryValue.get(ComparatorComparable.get());
-		entries.sort(comparator);
+		return (Comparator) ComparatorEntryValue.get(ComparatorComparable.get());
+	}
+
+	private static void sortLoreEntries(List<Entry<String, Integer>> entries)
+	{
+		entries.sort(getLoreEntryComparator());
+	}
 
-		List<String> ret = new MassiveList<>();
+	private static boolean isLoreEntriesSorted(List<Entry<String, Integer>> entries)
+	{
+		Comparator<Entry<? super String, ? super Integer>> comparator = getLoreEntryComparator();
+		Entry<String, Integer> previous = null;
 		for (Entry<String, Integer> entry : entries)
 		{
-			ret.add(entry.getKey());
+			if (previous != null && comparator.compare(previous, entry) > 0) return false;
+			previous = entry;
 		}
-		return ret;
+		return true;
 	}
 
-	public static void sortLore(ItemStack item)
+	private static List<String> getLoreLines(List<Entry<String, Integer>> entries)
 	{
-		if (item == null) return;
-		if ( ! item.getItemMeta().hasLore()) return;
-
-		List<String> lore = getSortedLore(item);
-		InventoryUtil.setLore(item, lore);
+		List<String> ret = new MassiveList<>(entries.size());
+		for (Entry<String, Integer> entry : entries)
+		{
+			ret.add(entry.getKey());
+		}
+		return ret;
 	}
 	public static void sortLore(Iterable<ItemStack> items)
 	{
@@ -199,9 +199,35 @@ public class MUtil
 		}
 	}
 	
+	// Checks the canonical form "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx" without parsing or allocating.
 	public static boolean isUuid(String string)
 	{
-		return asUuid(string) != null;
+		// Null
+		if (string == null) throw new NullPointerException("string");
+		
+		// Length
+		if (string.length() != 36) return false;
+		
+		// Characters
+		for (int index = 0; index < 36; index++)
+		{
+			char c = string.charAt(index);
+			if (index == 8 || index == 13 || index == 18 || index == 23)
+			{
+				if (c != '-') return false;
+			}
+			else if ( ! isHexDigit(c))
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private static boolean isHexDigit(char c)
+	{
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
 	}
 	
 	// -------------------------------------------- //
@@ -1128,93 +1154,12 @@ public class MUtil
 	// TRANSFORM
 	// -------------------------------------------- //
 
+	// The implementation lives in TransformUtil, which has no Bukkit dependencies and can be tested on its own.
 	public static <T> List<T> transform(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby, Integer limit, Integer offset)
 	{
-		// Collection
-		Collection<T> collection = null;
-		if (items instanceof Collection<?>) collection = (Collection<T>)items;
-		
-		// WHERE
-		List<T> ret;
-		if (where == null)
-		{
-			if (collection != null)
-			{
-				ret = new ArrayList<>(collection);
-			}
-			else
-			{
-				ret = new ArrayList<>();
-				for (T item : items)
-				{
-					ret.add(item);
-				}
-			}
-		}
-		else
-		{
-			if (collection != null)
-			{
-				ret = new ArrayList<>(collection.size());
-			}
-			else
-			{
-				ret = new ArrayList<>();
-			}
-			
-			for (T item : items)
-			{
-				if (where.test(item))
-				{
-					ret.add(item);
-				}
-			}
-		}
-		
-		// ORDERBY
-		if (orderby != null)
-		{
-			ret.sort(orderby);
-		}
-		
-		// LIMIT AND OFFSET
-		// Parse args
-		int fromIndex = 0;
-		if (offset != null)
-		{
-			fromIndex = offset;
-		}
-		
-		int toIndex = ret.size()-1;
-		if (limit != null)
-		{
-			toIndex = offset+limit;
-		}
-		
-		// Clean args
-		if (fromIndex <= 0)
-		{
-			fromIndex = 0;
-		}
-		else if (fromIndex > ret.size()-1)
-		{
-			fromIndex = ret.size()-1;
-		}
-		
-		if (toIndex < fromIndex)
-		{
-			toIndex = fromIndex;
-		}
-		else if (toIndex > ret.size()-1)
-		{
-			toIndex = ret.size()-1;
-		}
-		
-		// No limit?
-		if (fromIndex == 0 && toIndex == ret.size()-1) return ret;
-		
-		return new ArrayList<>(ret.subList(fromIndex, toIndex));
+		return TransformUtil.transform(items, where, orderby, limit, offset);
 	}
+	
 	public static <T> List<T> transform(Iterable<T> items, Predicate<? super T> where) { return transform(items, where, null, null, null); }
 	public static <T> List<T> transform(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby) { return transform(items, where, orderby, null, null); }
 	public static <T> List<T> transform(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby, Integer limit) { return transform(items, where, orderby, limit, null); }
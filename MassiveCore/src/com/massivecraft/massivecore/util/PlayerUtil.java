@@ -1,6 +1,7 @@
 package com.massivecraft.massivecore.util;
 
 import com.massivecraft.massivecore.Engine;
+import com.massivecraft.massivecore.event.EventMassiveCorePlayerMoveBlock;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -12,7 +13,6 @@ import org.bukkit.event.player.PlayerAnimationEvent;
 import org.bukkit.event.player.PlayerAnimationType;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
 import java.util.HashMap;
@@ -74,9 +74,8 @@ public class PlayerUtil extends Engine
 	}
 	
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-	public void setLastMoveMillis(PlayerMoveEvent event)
+	public void setLastMoveMillis(EventMassiveCorePlayerMoveBlock event)
 	{
-		if (MUtil.isSameBlock(event)) return;
 		setLastMoveMillis(event.getPlayer());
 	}
 	
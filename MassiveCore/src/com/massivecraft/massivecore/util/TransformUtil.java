@@ -0,0 +1,142 @@
+package com.massivecraft.massivecore.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+// The implementation behind MUtil.transform.
+// It is kept apart from MUtil so it can be used and tested without a server.
+public class TransformUtil
+{
+	// -------------------------------------------- //
+	// TRANSFORM
+	// -------------------------------------------- //
+	
+	public static <T> List<T> transform(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby, Integer limit, Integer offset)
+	{
+		// Parse args
+		int skip = (offset == null ? 0 : Math.max(0, offset));
+		int take = (limit == null ? Integer.MAX_VALUE : Math.max(0, limit));
+		
+		// ORDERBY WITH LIMIT
+		// Only the first offset + limit items in the order are needed.
+		// Selecting them with a bounded heap is O(n log k) rather than sorting all n items.
+		if (orderby != null && limit != null) return transformTop(items, where, orderby, skip, take);
+		
+		// Collection
+		Collection<T> collection = null;
+		if (items instanceof Collection<?>) collection = (Collection<T>)items;
+		
+		// WHERE
+		// Without an order the items past the limit are never needed so we stop collecting there.
+		long needed = (limit == null ? Long.MAX_VALUE : (long) skip + take);
+		List<T> ret;
+		if (where == null && limit == null && collection != null)
+		{
+			ret = new ArrayList<>(collection);
+		}
+		else
+		{
+			if (collection != null && limit == null)
+			{
+				ret = new ArrayList<>(collection.size());
+			}
+			else
+			{
+				ret = new ArrayList<>();
+			}
+			
+			for (T item : items)
+			{
+				if (ret.size() >= needed) break;
+				if (where != null && ! where.test(item)) continue;
+				ret.add(item);
+			}
+		}
+		
+		// ORDERBY
+		if (orderby != null)
+		{
+			ret.sort(orderby);
+		}
+		
+		// LIMIT AND OFFSET
+		if (skip == 0 && take >= ret.size()) return ret;
+		if (skip >= ret.size()) return new ArrayList<>();
+		int toIndex = (int) Math.min((long) skip + take, ret.size());
+		return new ArrayList<>(ret.subList(skip, toIndex));
+	}
+	
+	private static <T> List<T> transformTop(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby, int skip, int take)
+	{
+		long bound = (long) skip + take;
+		if (take == 0) return new ArrayList<>();
+		
+		// Ties are broken by the order the items came in, so the result equals a stable sort.
+		Comparator<TransformEntry<T>> comparator = (one, two) ->
+		{
+			int ret = orderby.compare(one.item, two.item);
+			if (ret != 0) return ret;
+			return Integer.compare(one.index, two.index);
+		};
+		
+		// The heap keeps the first items in the order with the last of them on top.
+		PriorityQueue<TransformEntry<T>> heap = new PriorityQueue<>(11, Collections.reverseOrder(comparator));
+		int index = 0;
+		for (T item : items)
+		{
+			if (where != null && ! where.test(item)) continue;
+			
+			if (heap.size() < bound)
+			{
+				heap.add(new TransformEntry<>(item, index++));
+				continue;
+			}
+			
+			// Later items lose ties, so the item must come strictly before the top to make it in.
+			if (orderby.compare(item, heap.peek().item) >= 0)
+			{
+				index++;
+				continue;
+			}
+			
+			heap.poll();
+			heap.add(new TransformEntry<>(item, index++));
+		}
+		
+		// Empty the heap from the back
+		int size = heap.size();
+		if (skip >= size) return new ArrayList<>();
+		Object[] sorted = new Object[size];
+		for (int i = size - 1; i >= 0; i--)
+		{
+			sorted[i] = heap.poll().item;
+		}
+		
+		List<T> ret = new ArrayList<>(size - skip);
+		for (int i = skip; i < size; i++)
+		{
+			@SuppressWarnings("unchecked")
+			T item = (T) sorted[i];
+			ret.add(item);
+		}
+		return ret;
+	}
+	
+	private static class TransformEntry<T>
+	{
+		private final T item;
+		private final int index;
+		
+		public TransformEntry(T item, int index)
+		{
+			this.item = item;
+			this.index = index;
+		}
+	}
+	
+}
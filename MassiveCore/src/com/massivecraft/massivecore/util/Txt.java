@@ -18,7 +18,9 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -169,7 +171,35 @@ public class Txt
 	// PARSE
 	// -------------------------------------------- //
 	
-	public static String parse(String string)
+	// The same format strings are parsed over and over again.
+	// We therefore cache them compiled with the tags already replaced.
+	// Only the format strings are cached. Plain strings are often built at runtime, such as chat or names already formatted in.
+	// The cache is bounded and drops the least recently used format strings first.
+	private static final int TEMPLATES_MAX = 1024;
+	private static final Map<String, TxtTemplate> templates = Collections.synchronizedMap(new LinkedHashMap<String, TxtTemplate>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		protected boolean removeEldestEntry(Entry<String, TxtTemplate> eldest)
+		{
+			return this.size() > TEMPLATES_MAX;
+		}
+	});
+	
+	public static TxtTemplate getTemplate(String string)
+	{
+		if (string == null) throw new NullPointerException("string");
+		
+		TxtTemplate ret = templates.get(string);
+		if (ret != null) return ret;
+		
+		ret = TxtTemplate.compile(parseRaw(string));
+		templates.put(string, ret);
+		return ret;
+	}
+	
+	public static String parseRaw(String string)
 	{
 		if (string == null) throw new NullPointerException("string");
 		StringBuffer ret = new StringBuffer();
@@ -182,9 +212,14 @@ public class Txt
 		return ret.toString();
 	}
 	
+	public static String parse(String string)
+	{
+		return parseRaw(string);
+	}
+	
 	public static String parse(String string, Object... args)
 	{
-		return String.format(parse(string), args);
+		return getTemplate(string).format(args);
 	}
 	
 	public static ArrayList<String> parse(Collection<String> strings)
@@ -0,0 +1,159 @@
+package com.massivecraft.massivecore.util;
+
+import java.text.DecimalFormatSymbols;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+// A format string that has already been through Txt.parse and split at its argument slots.
+// Only the plain %s and %d conversions are handled here, along with %% and %n.
+// Anything more elaborate is left to String.format so the output is always identical.
+public class TxtTemplate
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final char SLOT_STRING = 's';
+	private static final char SLOT_DECIMAL = 'd';
+	
+	// -------------------------------------------- //
+	// FIELDS
+	// -------------------------------------------- //
+	
+	// The format string with the tags replaced by color codes.
+	private final String parsed;
+	public String getParsed() { return this.parsed; }
+	
+	// Null if the format string uses conversions we don't handle ourselves.
+	// Otherwise there is one more literal than there are slots.
+	private final String[] literals;
+	private final char[] slots;
+	public boolean isSimple() { return this.literals != null; }
+	
+	// -------------------------------------------- //
+	// CONSTRUCT
+	// -------------------------------------------- //
+	
+	private TxtTemplate(String parsed, String[] literals, char[] slots)
+	{
+		this.parsed = parsed;
+		this.literals = literals;
+		this.slots = slots;
+	}
+	
+	public static TxtTemplate compile(String parsed)
+	{
+		if (parsed == null) throw new NullPointerException("parsed");
+		
+		int count = 0;
+		for (int index = 0; index < parsed.length(); index++)
+		{
+			if (parsed.charAt(index) != '%') continue;
+			index++;
+			if (index >= parsed.length()) return new TxtTemplate(parsed, null, null);
+			char conversion = parsed.charAt(index);
+			if (conversion == SLOT_STRING || conversion == SLOT_DECIMAL) count++;
+			else if (conversion != '%' && conversion != 'n') return new TxtTemplate(parsed, null, null);
+		}
+		
+		String[] literals = new String[count + 1];
+		char[] slots = new char[count];
+		StringBuilder literal = new StringBuilder();
+		int slot = 0;
+		for (int index = 0; index < parsed.length(); index++)
+		{
+			char c = parsed.charAt(index);
+			if (c != '%')
+			{
+				literal.append(c);
+				continue;
+			}
+			
+			index++;
+			char conversion = parsed.charAt(index);
+			if (conversion == '%')
+			{
+				literal.append('%');
+			}
+			else if (conversion == 'n')
+			{
+				literal.append(System.lineSeparator());
+			}
+			else
+			{
+				literals[slot] = literal.toString();
+				slots[slot] = conversion;
+				literal.setLength(0);
+				slot++;
+			}
+		}
+		literals[slot] = literal.toString();
+		
+		return new TxtTemplate(parsed, literals, slots);
+	}
+	
+	// -------------------------------------------- //
+	// FORMAT
+	// -------------------------------------------- //
+	
+	public String format(Object... args)
+	{
+		if ( ! this.canFormat(args)) return String.format(this.getParsed(), args);
+		
+		StringBuilder ret = new StringBuilder(this.getParsed().length() + 16 * this.slots.length);
+		for (int slot = 0; slot < this.slots.length; slot++)
+		{
+			ret.append(this.literals[slot]);
+			ret.append(args[slot]);
+		}
+		ret.append(this.literals[this.slots.length]);
+		return ret.toString();
+	}
+	
+	// Can every slot be filled using plain String.valueOf?
+	private boolean canFormat(Object[] args)
+	{
+		if ( ! this.isSimple()) return false;
+		if (args == null) return this.slots.length == 0;
+		if (args.length < this.slots.length) return false;
+		
+		for (int slot = 0; slot < this.slots.length; slot++)
+		{
+			Object arg = args[slot];
+			if (this.slots[slot] == SLOT_STRING)
+			{
+				if (arg instanceof Formattable) return false;
+			}
+			else
+			{
+				if ( ! (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)) return false;
+				if ( ! isZeroDigitAscii()) return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	// -------------------------------------------- //
+	// LOCALE
+	// -------------------------------------------- //
+	// String.format localizes the digits of %d.
+	// We can only use Long.toString when the current locale uses ascii digits.
+	
+	private static volatile Entry<Locale, Boolean> zeroDigitAscii = null;
+	
+	private static boolean isZeroDigitAscii()
+	{
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		Entry<Locale, Boolean> entry = zeroDigitAscii;
+		if (entry == null || ! entry.getKey().equals(locale))
+		{
+			entry = new SimpleImmutableEntry<>(locale, DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0');
+			zeroDigitAscii = entry;
+		}
+		return entry.getValue();
+	}
+	
+}
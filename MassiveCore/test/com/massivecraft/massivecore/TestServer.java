@@ -0,0 +1,34 @@
+package com.massivecraft.massivecore;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+// A server that answers just enough for the classes that read from it when they are loaded, such as ReflectionUtil.
+// Every other method returns null.
+public class TestServer
+{
+	// -------------------------------------------- //
+	// INSTALL
+	// -------------------------------------------- //
+	
+	public static void install()
+	{
+		if (Bukkit.getServer() != null) return;
+		Logger logger = Logger.getLogger("TestServer");
+		Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class}, (proxy, method, args) -> {
+			switch (method.getName())
+			{
+				case "getVersion": return "git-Test-1.21.4-R0.1-SNAPSHOT (MC: 1.21.4)";
+				case "getBukkitVersion": return "1.21.4-R0.1-SNAPSHOT";
+				case "getName": return "Test";
+				case "getLogger": return logger;
+				default: return null;
+			}
+		});
+		Bukkit.setServer(server);
+	}
+	
+}
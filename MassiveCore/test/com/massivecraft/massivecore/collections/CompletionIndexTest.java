@@ -0,0 +1,103 @@
+package com.massivecraft.massivecore.collections;
+
+import com.massivecraft.massivecore.apachecommons.StringUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+// The index must find exactly the keys a scan over all strings would find.
+public class CompletionIndexTest
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final char[] CHARS = "abcAB_".toCharArray();
+	
+	private static String createString(Random random)
+	{
+		StringBuilder ret = new StringBuilder();
+		int length = random.nextInt(6);
+		for (int i = 0; i < length; i++)
+		{
+			ret.append(CHARS[random.nextInt(CHARS.length)]);
+		}
+		return ret.toString();
+	}
+	
+	// -------------------------------------------- //
+	// TEST
+	// -------------------------------------------- //
+	
+	@Test
+	public void testSameAsScan()
+	{
+		Random random = new Random(1337);
+		List<String> strings = new ArrayList<>();
+		CompletionIndex index = new CompletionIndex();
+		for (int round = 0; round < 2000; round++)
+		{
+			// Strings are removed now and then so the tree has dead nodes and gets rebuilt.
+			if ( ! strings.isEmpty() && random.nextInt(4) == 0)
+			{
+				String string = strings.remove(random.nextInt(strings.size()));
+				index.remove(string);
+			}
+			else
+			{
+				String string = createString(random);
+				strings.add(string);
+				index.add(string);
+			}
+			
+			String arg = createString(random).toLowerCase();
+			int max = random.nextInt(3);
+			
+			Set<String> prefixExpected = new TreeSet<>();
+			Set<String> levenshteinExpected = new TreeSet<>();
+			for (String string : strings)
+			{
+				String key = string.toLowerCase();
+				if (key.startsWith(arg)) prefixExpected.add(key);
+				if (StringUtils.getLevenshteinDistance(arg, key) <= max) levenshteinExpected.add(key);
+			}
+			
+			assertEquals(new ArrayList<>(prefixExpected), index.getKeysStartingWith(arg));
+			assertEquals(levenshteinExpected, new TreeSet<>(index.getKeysLevenshteinSimilar(arg, max)));
+			assertEquals(strings.size(), index.size());
+		}
+	}
+	
+	@Test
+	public void testOriginals()
+	{
+		CompletionIndex index = new CompletionIndex(Arrays.asList("Foo", "foo", "FOO", "Foo", "bar"));
+		assertEquals(Arrays.asList("Foo", "foo", "FOO"), index.getOriginals("foo"));
+		assertEquals(Collections.emptyList(), index.getOriginals("Foo"));
+		
+		index.remove("Foo");
+		assertEquals(Arrays.asList("Foo", "foo", "FOO"), index.getOriginals("foo"));
+		index.remove("Foo");
+		assertEquals(Arrays.asList("foo", "FOO"), index.getOriginals("foo"));
+	}
+	
+	@Test
+	public void testDistinctIgnoreCase()
+	{
+		CompletionIndex index = new CompletionIndex(true);
+		index.addAll(Arrays.asList("Foo", "foo", "Fob", "bar"));
+		assertEquals(Arrays.asList("Fob", "Foo"), index.getStartsWithIgnoreCase("FO"));
+		
+		index.remove("Foo");
+		assertEquals(Arrays.asList("Fob", "foo"), index.getStartsWithIgnoreCase("fo"));
+	}
+	
+}
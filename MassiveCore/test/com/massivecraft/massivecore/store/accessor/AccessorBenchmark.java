@@ -0,0 +1,186 @@
+package com.massivecraft.massivecore.store.accessor;
+
+import com.massivecraft.massivecore.TestServer;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertEquals;
+
+// Compares copying entities with Accessor to copying every field with Field#get and Field#set as Accessor did before.
+// The entities stand in for an MPlayer and a Faction. They are copied to a second instance and back, like a load and a save.
+// Run with: mvn test -Dtest=AccessorBenchmark
+public class AccessorBenchmark
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final int WARMUP = 20;
+	private static final int ROUNDS = 50;
+	private static final int ENTITIES = 10000;
+	
+	// -------------------------------------------- //
+	// ENTITIES
+	// -------------------------------------------- //
+	
+	public static class PlayerEntity
+	{
+		private int version = 2;
+		private long lastActivityMillis = 1700000000000L;
+		private String factionId = "faction";
+		private String rankId = "rank";
+		private String title = "title";
+		private double power = 7.5;
+		private Boolean mapAutoUpdating = null;
+		private Boolean overriding = null;
+		private Boolean territoryInfoTitles = true;
+		private Double powerBoost = null;
+		private List<String> invitations = new ArrayList<>();
+		
+		public PlayerEntity(int i)
+		{
+			this.lastActivityMillis += i;
+			this.title += i;
+			this.power += i;
+			if (i % 2 == 0) this.overriding = true;
+		}
+	}
+	
+	public static class FactionEntity
+	{
+		private int version = 5;
+		private String name = "Faction";
+		private String description = "Description";
+		private String motd = "Message of the day";
+		private long createdAtMillis = 1600000000000L;
+		private double powerBoost = 0;
+		private Map<String, String> relationWishes = new HashMap<>();
+		private Map<String, Boolean> flags = new HashMap<>();
+		private Map<String, List<String>> perms = new HashMap<>();
+		private List<String> ranks = new ArrayList<>();
+		private List<String> warps = new ArrayList<>();
+		private String homeWorld = "world";
+		private int homeX = 100;
+		private int homeZ = -200;
+		
+		public FactionEntity(int i)
+		{
+			this.name += i;
+			this.createdAtMillis += i;
+			this.homeX += i;
+			this.flags.put("open", i % 2 == 0);
+		}
+	}
+	
+	// -------------------------------------------- //
+	// SETUP
+	// -------------------------------------------- //
+	
+	// ReflectionUtil reads the version from the server when it is loaded.
+	@BeforeClass
+	public static void setupServer()
+	{
+		TestServer.install();
+	}
+	
+	// -------------------------------------------- //
+	// BENCHMARK
+	// -------------------------------------------- //
+	
+	@Test
+	public void benchmark()
+	{
+		benchmark(PlayerEntity.class, PlayerEntity::new);
+		benchmark(FactionEntity.class, FactionEntity::new);
+	}
+	
+	private static <T> void benchmark(Class<T> clazz, IntFunction<T> creator)
+	{
+		List<T> froms = new ArrayList<>(ENTITIES);
+		List<T> tos = new ArrayList<>(ENTITIES);
+		for (int i = 0; i < ENTITIES; i++)
+		{
+			froms.add(creator.apply(i));
+			tos.add(creator.apply(-1 - i));
+		}
+		
+		Accessor accessor = Accessor.get(clazz);
+		List<Field> fields = new ArrayList<>(Accessor.getFieldMap(clazz).values());
+		fields.forEach(field -> field.setAccessible(true));
+		
+		// The copy must carry over every field.
+		T from = creator.apply(1);
+		T to = creator.apply(2);
+		accessor.copy(from, to);
+		for (Field field : fields)
+		{
+			assertEquals(field.getName(), getField(field, from), getField(field, to));
+		}
+		
+		double fieldMillis = measure(() -> {
+			for (int i = 0; i < ENTITIES; i++)
+			{
+				copyFields(fields, froms.get(i), tos.get(i));
+				copyFields(fields, tos.get(i), froms.get(i));
+			}
+		});
+		double accessorMillis = measure(() -> {
+			for (int i = 0; i < ENTITIES; i++)
+			{
+				accessor.copy(froms.get(i), tos.get(i));
+				accessor.copy(tos.get(i), froms.get(i));
+			}
+		});
+		System.out.println(String.format("%d %s copied both ways: Field %.2fms, Accessor %.2fms", ENTITIES, clazz.getSimpleName(), fieldMillis, accessorMillis));
+	}
+	
+	private static Object getField(Field field, Object object)
+	{
+		try
+		{
+			return field.get(object);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+	
+	private static void copyFields(List<Field> fields, Object from, Object to)
+	{
+		try
+		{
+			for (Field field : fields)
+			{
+				field.set(to, field.get(from));
+			}
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+	
+	private static double measure(Runnable runnable)
+	{
+		for (int i = 0; i < WARMUP; i++)
+		{
+			runnable.run();
+		}
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			runnable.run();
+		}
+		return (System.nanoTime() - start) / 1000000D / ROUNDS;
+	}
+	
+}
@@ -0,0 +1,181 @@
+package com.massivecraft.massivecore.store.cleanable;
+
+import com.massivecraft.massivecore.store.Coll;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Walking a CleaningIndex the way CleaningPass does must find the same entities as asking every entity did.
+public class CleaningIndexTest
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final long NOW = 100000;
+	private static final long TOLERANCE = 30000;
+	
+	// -------------------------------------------- //
+	// CLEANABLE
+	// -------------------------------------------- //
+	// Stands in for a sender entity. It is cleaned once inactive for longer than the tolerance.
+	
+	private static class Item implements Cleanable
+	{
+		private long activityMillis;
+		private int reads = 0;
+		
+		private Item(long activityMillis)
+		{
+			this.activityMillis = activityMillis;
+		}
+		
+		@Override
+		public boolean shouldBeCleaned(long now)
+		{
+			if (this.activityMillis == Long.MIN_VALUE) return true;
+			return this.activityMillis + TOLERANCE < now;
+		}
+		
+		@Override
+		public long getCleanActivityMillis()
+		{
+			this.reads++;
+			return this.activityMillis;
+		}
+		
+		@Override public Coll<?> getColl() { return null; }
+		@Override public void preClean() { }
+		@Override public void postClean() { }
+	}
+	
+	private static long createActivityMillis(Random random)
+	{
+		if (random.nextInt(50) == 0) return Long.MIN_VALUE;
+		return random.nextInt((int) NOW);
+	}
+	
+	// -------------------------------------------- //
+	// COMPARE
+	// -------------------------------------------- //
+	
+	private static Set<String> scan(Map<String, Item> idToItem)
+	{
+		Set<String> ret = new TreeSet<>();
+		for (Map.Entry<String, Item> entry : idToItem.entrySet())
+		{
+			if (entry.getValue().shouldBeCleaned(NOW)) ret.add(entry.getKey());
+		}
+		return ret;
+	}
+	
+	private static Set<String> walk(CleaningIndex index, Map<String, Item> idToItem)
+	{
+		// One entity per call like a pass that is always out of time.
+		boolean filled;
+		do
+		{
+			filled = index.fill(idToItem, System.nanoTime());
+		}
+		while ( ! filled);
+		
+		Set<String> ret = new TreeSet<>();
+		CleaningIndex.Entry cursor = null;
+		while ((cursor = index.getNext(cursor, NOW - TOLERANCE)) != null)
+		{
+			Item item = idToItem.get(cursor.getId());
+			if (item != null && item.shouldBeCleaned(NOW)) ret.add(cursor.getId());
+			else index.update(cursor.getId(), item);
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// TEST
+	// -------------------------------------------- //
+	
+	@Test
+	public void testSameAsScan()
+	{
+		Random random = new Random(42);
+		Map<String, Item> idToItem = new HashMap<>();
+		for (int i = 0; i < 2000; i++)
+		{
+			idToItem.put("item" + i, new Item(createActivityMillis(random)));
+		}
+		
+		CleaningIndex index = new CleaningIndex(idToItem.keySet());
+		assertEquals(scan(idToItem), walk(index, idToItem));
+		assertEquals(idToItem.size(), index.size());
+		
+		int next = idToItem.size();
+		for (int round = 0; round < 20; round++)
+		{
+			List<String> ids = new ArrayList<>(idToItem.keySet());
+			for (int i = 0; i < 100; i++)
+			{
+				String id = ids.get(random.nextInt(ids.size()));
+				Item item = idToItem.get(id);
+				switch (random.nextInt(4))
+				{
+					// Changed through the coll
+					case 0:
+						if (item == null) break;
+						item.activityMillis = Math.max(item.activityMillis, createActivityMillis(random));
+						index.markDirty(id);
+						break;
+					// Changed without the coll knowing, the index is then a lower bound
+					case 1:
+						if (item == null) break;
+						item.activityMillis = Math.max(item.activityMillis, createActivityMillis(random));
+						break;
+					// Removed
+					case 2:
+						idToItem.remove(id);
+						index.markDirty(id);
+						break;
+					// Attached
+					default:
+						String newId = "item" + next++;
+						idToItem.put(newId, new Item(createActivityMillis(random)));
+						index.markDirty(newId);
+						break;
+				}
+			}
+			assertEquals(scan(idToItem), walk(index, idToItem));
+			assertEquals(idToItem.size(), index.size());
+		}
+	}
+	
+	@Test
+	public void testMarkDirtyIsLazy()
+	{
+		Map<String, Item> idToItem = new HashMap<>();
+		Item item = new Item(NOW);
+		idToItem.put("item", item);
+		
+		CleaningIndex index = new CleaningIndex(idToItem.keySet());
+		assertTrue(index.fill(idToItem, System.nanoTime() + 1000000000L));
+		assertEquals(1, item.reads);
+		
+		// Marking does not look at the entity, even when it happens often.
+		for (int i = 0; i < 1000; i++)
+		{
+			index.markDirty("item");
+		}
+		assertEquals(1, item.reads);
+		
+		assertTrue(index.fill(idToItem, System.nanoTime() + 1000000000L));
+		assertEquals(2, item.reads);
+	}
+	
+}
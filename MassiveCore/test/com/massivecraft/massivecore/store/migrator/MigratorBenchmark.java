@@ -0,0 +1,222 @@
+package com.massivecraft.massivecore.store.migrator;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.massivecraft.massivecore.TestServer;
+import com.massivecraft.massivecore.util.ReflectionUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+
+// Compares loading entities that are already at their target version with the full walk used before.
+// The entities stand in for an MPlayer, which has nothing versioned inside, and a Faction-like entity with versioned values in a map.
+// Run with: mvn test -Dtest=MigratorBenchmark
+public class MigratorBenchmark
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final int WARMUP = 20;
+	private static final int ROUNDS = 50;
+	private static final int PLAYERS = 10000;
+	private static final int FACTIONS = 500;
+	private static final int CLAIMS = 40;
+	
+	// -------------------------------------------- //
+	// ENTITIES
+	// -------------------------------------------- //
+	
+	public static class FlatEntity
+	{
+		private int version = 2;
+		private String factionId;
+		private String rankId;
+		private String title;
+		private double power;
+		private boolean mapAutoUpdating;
+		private Long lastActivityMillis;
+		private List<String> invitations = new ArrayList<>();
+		private Map<String, Boolean> settings = new HashMap<>();
+	}
+	
+	public static class Claim
+	{
+		private int version = 1;
+		private String hostFactionId;
+		private boolean hostFactionAllowed = true;
+		private List<String> grantedIds = new ArrayList<>();
+	}
+	
+	public static class NestedEntity
+	{
+		private int version = 5;
+		private String name;
+		private String description;
+		private Map<String, Claim> claims = new HashMap<>();
+		private Map<String, List<String>> perms = new HashMap<>();
+	}
+	
+	// -------------------------------------------- //
+	// SETUP
+	// -------------------------------------------- //
+	
+	// ReflectionUtil reads the version from the server when it is loaded.
+	@BeforeClass
+	public static void setupServer()
+	{
+		TestServer.install();
+	}
+	
+	// -------------------------------------------- //
+	// BENCHMARK
+	// -------------------------------------------- //
+	
+	@Test
+	public void benchmark()
+	{
+		Random random = new Random(42);
+		Gson gson = new Gson();
+		
+		List<JsonElement> players = new ArrayList<>();
+		for (int i = 0; i < PLAYERS; i++)
+		{
+			FlatEntity player = new FlatEntity();
+			player.factionId = "faction" + random.nextInt(FACTIONS);
+			player.rankId = "rank" + random.nextInt(4);
+			player.title = "title" + i;
+			player.power = random.nextInt(10);
+			player.lastActivityMillis = random.nextLong();
+			for (int j = random.nextInt(4); j > 0; j--)
+			{
+				player.invitations.add("faction" + random.nextInt(FACTIONS));
+			}
+			player.settings.put("territoryInfoTitles", random.nextBoolean());
+			players.add(gson.toJsonTree(player));
+		}
+		
+		List<JsonElement> factions = new ArrayList<>();
+		for (int i = 0; i < FACTIONS; i++)
+		{
+			NestedEntity faction = new NestedEntity();
+			faction.name = "Faction" + i;
+			faction.description = "Description of faction " + i;
+			for (int j = 0; j < CLAIMS; j++)
+			{
+				Claim claim = new Claim();
+				claim.hostFactionId = "faction" + i;
+				if (random.nextInt(4) == 0) claim.grantedIds.add("faction" + random.nextInt(FACTIONS));
+				faction.claims.put("world:" + random.nextInt(1000) + ":" + random.nextInt(1000), claim);
+			}
+			faction.perms.put("build", new ArrayList<>(faction.claims.keySet()).subList(0, 3));
+			factions.add(gson.toJsonTree(faction));
+		}
+		
+		// Everything is at its target version so neither may change anything.
+		for (JsonElement player : players)
+		{
+			assertFalse(migrateOld(FlatEntity.class, player));
+			assertFalse(MigratorUtil.migrate(FlatEntity.class, player));
+		}
+		for (JsonElement faction : factions)
+		{
+			assertFalse(migrateOld(NestedEntity.class, faction));
+			assertFalse(MigratorUtil.migrate(NestedEntity.class, faction));
+		}
+		
+		double playersOldMillis = measure(() -> players.forEach(player -> migrateOld(FlatEntity.class, player)));
+		double playersNewMillis = measure(() -> players.forEach(player -> MigratorUtil.migrate(FlatEntity.class, player)));
+		double factionsOldMillis = measure(() -> factions.forEach(faction -> migrateOld(NestedEntity.class, faction)));
+		double factionsNewMillis = measure(() -> factions.forEach(faction -> MigratorUtil.migrate(NestedEntity.class, faction)));
+		System.out.println(String.format("%d flat entities: full walk %.2fms, plan %.2fms", PLAYERS, playersOldMillis, playersNewMillis));
+		System.out.println(String.format("%d nested entities: full walk %.2fms, plan %.2fms", FACTIONS, factionsOldMillis, factionsNewMillis));
+	}
+	
+	private static double measure(Runnable runnable)
+	{
+		for (int i = 0; i < WARMUP; i++)
+		{
+			runnable.run();
+		}
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			runnable.run();
+		}
+		return (System.nanoTime() - start) / 1000000D / ROUNDS;
+	}
+	
+	// -------------------------------------------- //
+	// FULL WALK
+	// -------------------------------------------- //
+	// The migration as it was before the plans: Every field of every object is looked up and visited.
+	
+	private static boolean migrateOld(Type realType, JsonElement jsonElement)
+	{
+		if (jsonElement.isJsonNull()) return false;
+		if (jsonElement.isJsonPrimitive()) return false;
+		
+		Type jsonType = MigratorUtil.getJsonRepresentation(realType);
+		
+		if (jsonElement.isJsonObject())
+		{
+			JsonObject object = jsonElement.getAsJsonObject();
+			if (Map.class.isAssignableFrom(MigratorUtil.getClassType(jsonType)))
+			{
+				Type valueType = MigratorUtil.getParameterizedType(jsonType).getActualTypeArguments()[1];
+				boolean migrated = false;
+				for (Map.Entry<String, JsonElement> entry : object.entrySet())
+				{
+					migrated = migrateOld(valueType, entry.getValue()) | migrated;
+				}
+				return migrated;
+			}
+			
+			boolean migrated = MigratorUtil.migrateClass(jsonType, object);
+			return migrateFieldsOld(jsonType, object) | migrated;
+		}
+		
+		Class<?> clazz = MigratorUtil.getClassType(jsonType);
+		JsonArray array = jsonElement.getAsJsonArray();
+		if ( ! Collection.class.isAssignableFrom(clazz)) throw new UnsupportedOperationException(clazz.getName());
+		
+		ParameterizedType parameterizedType = MigratorUtil.getParameterizedType(jsonType);
+		Type elementType = parameterizedType.getActualTypeArguments()[0];
+		boolean migrated = false;
+		for (JsonElement element : array)
+		{
+			migrated = migrateOld(elementType, element) | migrated;
+		}
+		return migrated;
+	}
+	
+	private static boolean migrateFieldsOld(Type type, JsonObject object)
+	{
+		Class<?> entityClass = MigratorUtil.getClassType(type);
+		
+		boolean migrated = false;
+		for (Map.Entry<String, JsonElement> entry : object.entrySet())
+		{
+			String name = entry.getKey();
+			Class<?> superClass = ReflectionUtil.getSuperclassDeclaringField(entityClass, true, name);
+			if (superClass == null) continue;
+			Type elementType = ReflectionUtil.getField(superClass, name).getGenericType();
+			migrated = migrateOld(elementType, entry.getValue()) | migrated;
+		}
+		return migrated;
+	}
+	
+}
@@ -0,0 +1,73 @@
+package com.massivecraft.massivecore.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+// Compares selecting the first page with MUtil.transform to sorting everything and slicing.
+// Run with: mvn test -Dtest=TransformBenchmark
+public class TransformBenchmark
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final int PAGE_SIZE = 20;
+	private static final int WARMUP = 20;
+	private static final int ROUNDS = 50;
+	
+	// Like ComparatorFactionList the comparator looks values up rather than reading a field.
+	private static final Comparator<Integer> ORDERBY = Comparator.comparing(value -> Integer.toString(value * 31));
+	
+	// -------------------------------------------- //
+	// BENCHMARK
+	// -------------------------------------------- //
+	
+	@Test
+	public void benchmark()
+	{
+		for (int size : new int[]{10000, 100000})
+		{
+			Random random = new Random(size);
+			List<Integer> items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+			{
+				items.add(random.nextInt());
+			}
+			
+			assertEquals(sortAndSlice(items), TransformUtil.transform(items, null, ORDERBY, PAGE_SIZE, 0));
+			
+			double sortMillis = measure(() -> sortAndSlice(items));
+			double transformMillis = measure(() -> TransformUtil.transform(items, null, ORDERBY, PAGE_SIZE, 0));
+			System.out.println(String.format("%d items, first page of %d: full sort %.2fms, transform %.2fms", size, PAGE_SIZE, sortMillis, transformMillis));
+		}
+	}
+	
+	private static List<Integer> sortAndSlice(List<Integer> items)
+	{
+		List<Integer> ret = new ArrayList<>(items);
+		ret.sort(ORDERBY);
+		return new ArrayList<>(ret.subList(0, PAGE_SIZE));
+	}
+	
+	private static double measure(Runnable runnable)
+	{
+		for (int i = 0; i < WARMUP; i++)
+		{
+			runnable.run();
+		}
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			runnable.run();
+		}
+		return (System.nanoTime() - start) / 1000000D / ROUNDS;
+	}
+	
+}
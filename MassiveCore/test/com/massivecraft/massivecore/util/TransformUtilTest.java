@@ -0,0 +1,117 @@
+package com.massivecraft.massivecore.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+
+// TransformUtil.transform must return exactly what filtering, a stable full sort and slicing would.
+public class TransformUtilTest
+{
+	// -------------------------------------------- //
+	// ITEM
+	// -------------------------------------------- //
+	// Many items share a key so ties are common and stability is checked.
+	
+	private static class Item
+	{
+		private final int key;
+		private final int id;
+		
+		private Item(int key, int id)
+		{
+			this.key = key;
+			this.id = id;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return this.key + "#" + this.id;
+		}
+	}
+	
+	private static final Comparator<Item> ORDERBY = Comparator.comparingInt(item -> item.key);
+	private static final Predicate<Item> WHERE = item -> item.id % 3 != 0;
+	
+	// -------------------------------------------- //
+	// EXPECTED
+	// -------------------------------------------- //
+	
+	private static <T> List<T> expected(Iterable<T> items, Predicate<? super T> where, Comparator<? super T> orderby, Integer limit, Integer offset)
+	{
+		List<T> ret = new ArrayList<>();
+		for (T item : items)
+		{
+			if (where != null && ! where.test(item)) continue;
+			ret.add(item);
+		}
+		if (orderby != null) ret.sort(orderby);
+		
+		int skip = (offset == null ? 0 : Math.max(0, offset));
+		int take = (limit == null ? Integer.MAX_VALUE : Math.max(0, limit));
+		if (skip >= ret.size()) return new ArrayList<>();
+		int toIndex = (int) Math.min((long) skip + take, ret.size());
+		return new ArrayList<>(ret.subList(skip, toIndex));
+	}
+	
+	private static List<Item> createItems(Random random, int size, int keys)
+	{
+		List<Item> ret = new ArrayList<>(size);
+		for (int id = 0; id < size; id++)
+		{
+			ret.add(new Item(random.nextInt(keys), id));
+		}
+		return ret;
+	}
+	
+	// -------------------------------------------- //
+	// TEST
+	// -------------------------------------------- //
+	
+	@Test
+	public void testMatchesFullSort()
+	{
+		Random random = new Random(1337);
+		Integer[] limits = {null, 0, 1, 5, 20, 1000};
+		Integer[] offsets = {null, 0, 1, 7, 50, 5000};
+		
+		for (int size : new int[]{0, 1, 10, 100, 1000})
+		{
+			List<Item> items = createItems(random, size, 1 + size / 4);
+			for (Integer limit : limits)
+			{
+				for (Integer offset : offsets)
+				{
+					for (Predicate<Item> where : Arrays.<Predicate<Item>>asList(null, WHERE))
+					{
+						for (Comparator<Item> orderby : Arrays.<Comparator<Item>>asList(null, ORDERBY, ORDERBY.reversed()))
+						{
+							String message = "size=" + size + " limit=" + limit + " offset=" + offset + " where=" + (where != null) + " orderby=" + orderby;
+							assertEquals(message, expected(items, where, orderby, limit, offset), TransformUtil.transform(items, where, orderby, limit, offset));
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testNonListIterable()
+	{
+		Random random = new Random(42);
+		List<Item> items = createItems(random, 500, 50);
+		Iterable<Item> iterable = new LinkedHashSet<>(items);
+		
+		assertEquals(expected(items, WHERE, ORDERBY, 10, 30), TransformUtil.transform(iterable, WHERE, ORDERBY, 10, 30));
+		assertEquals(expected(items, null, null, 10, 30), TransformUtil.transform(iterable, null, null, 10, 30));
+	}
+	
+}
@@ -0,0 +1,93 @@
+package com.massivecraft.massivecore.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+// Compares formatting real message formats with String.format to formatting compiled templates.
+// The formats are taken from Factions and MassiveCore with the tags already replaced, as Txt.parse caches them.
+// The regex pass that replaced the tags on every call before is not included, so the old path was slower still.
+// Run with: mvn test -Dtest=TxtTemplateBenchmark
+public class TxtTemplateBenchmark
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final int WARMUP = 20;
+	private static final int ROUNDS = 50;
+	private static final int CALLS = 10000;
+	
+	private static final String[] FORMATS = {
+		"§e PVP is disabled in %s.",
+		"§d%s §eset a flag for §d%s§e.",
+		"%s§e is now %s.",
+		"%s§e is already a member of %s§e.",
+		"Unable to transfer %s§c to §d%s§c from §d%s§c.",
+		"§d%d§b %s",
+		"§bFaction: §d%s",
+		"§e at §d%s",
+		"§e (%s§e)",
+		"§d%s§e claimed §d%d§e chunks%s.",
+	};
+	
+	private static final Object[][] ARGS = {
+		{"§aSafeZone"},
+		{"§aCayorion", "§cWarZone"},
+		{"§aCayorion", "§aofficer"},
+		{"§aCayorion", "§aVikings"},
+		{"§d$12.50", "§aVikings", "§aCayorion"},
+		{12, "members online"},
+		{"§aVikings"},
+		{"Market Square"},
+		{"42, -17"},
+		{"§aCayorion", 64, " at 42, -17"},
+	};
+	
+	// -------------------------------------------- //
+	// BENCHMARK
+	// -------------------------------------------- //
+	
+	@Test
+	public void benchmark()
+	{
+		TxtTemplate[] templates = new TxtTemplate[FORMATS.length];
+		for (int i = 0; i < FORMATS.length; i++)
+		{
+			templates[i] = TxtTemplate.compile(FORMATS[i]);
+			assertEquals(String.format(FORMATS[i], ARGS[i]), templates[i].format(ARGS[i]));
+		}
+		
+		double formatMillis = measure(() -> {
+			for (int call = 0; call < CALLS; call++)
+			{
+				int i = call % FORMATS.length;
+				String.format(FORMATS[i], ARGS[i]);
+			}
+		});
+		double templateMillis = measure(() -> {
+			for (int call = 0; call < CALLS; call++)
+			{
+				int i = call % FORMATS.length;
+				templates[i].format(ARGS[i]);
+			}
+		});
+		System.out.println(String.format("%d messages: String.format %.2fms, template %.2fms", CALLS, formatMillis, templateMillis));
+	}
+	
+	private static double measure(Runnable runnable)
+	{
+		for (int i = 0; i < WARMUP; i++)
+		{
+			runnable.run();
+		}
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			runnable.run();
+		}
+		return (System.nanoTime() - start) / 1000000D / ROUNDS;
+	}
+	
+}
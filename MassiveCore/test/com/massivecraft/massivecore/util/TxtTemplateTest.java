@@ -0,0 +1,123 @@
+package com.massivecraft.massivecore.util;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+// TxtTemplate must produce exactly what String.format produces for the parsed format string.
+// That includes the exceptions thrown for bad formats and arguments.
+public class TxtTemplateTest
+{
+	// -------------------------------------------- //
+	// CONSTANTS
+	// -------------------------------------------- //
+	
+	private static final int ROUNDS = 20000;
+	
+	// Format strings have already been through Txt.parseRaw, so the tags are color codes here.
+	private static final String[] PIECES = {
+		"a", "Faction ", " ", "§e", "§c", "§r", "ä",
+		"%s", "%d", "%%", "%n",
+		"%5s", "%-3d", "%x", "%.2f", "%S", "%b", "%1$s", "%c", "%", "%q", "%,d",
+	};
+	
+	private static final Formattable FORMATTABLE = (formatter, flags, width, precision) -> formatter.format("formattable");
+	
+	private static final Object[] ARGS = {
+		"string", "§aname", "", null, 5, -17, 0, Long.MIN_VALUE, (short) 3, (byte) -2, 3.5, 2.0f,
+		true, 'c', BigInteger.TEN, FORMATTABLE, new Object(), new int[0],
+	};
+	
+	// -------------------------------------------- //
+	// EXPECTED
+	// -------------------------------------------- //
+	
+	// The output, or the class of the exception thrown.
+	private static Object call(Runnable runnable, String[] output)
+	{
+		try
+		{
+			runnable.run();
+			return output[0];
+		}
+		catch (RuntimeException e)
+		{
+			return e.getClass();
+		}
+	}
+	
+	private static Object expected(String format, Object[] args)
+	{
+		String[] output = new String[1];
+		return call(() -> output[0] = String.format(format, args), output);
+	}
+	
+	private static Object actual(String format, Object[] args)
+	{
+		String[] output = new String[1];
+		return call(() -> output[0] = TxtTemplate.compile(format).format(args), output);
+	}
+	
+	// -------------------------------------------- //
+	// FUZZ
+	// -------------------------------------------- //
+	
+	private static void fuzz(long seed)
+	{
+		Random random = new Random(seed);
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			StringBuilder format = new StringBuilder();
+			int pieces = random.nextInt(8);
+			for (int i = 0; i < pieces; i++)
+			{
+				format.append(PIECES[random.nextInt(PIECES.length)]);
+			}
+			
+			Object[] args = new Object[random.nextInt(5)];
+			for (int i = 0; i < args.length; i++)
+			{
+				args[i] = ARGS[random.nextInt(ARGS.length)];
+			}
+			
+			String message = "format=" + format + " args=" + args.length;
+			assertEquals(message, expected(format.toString(), args), actual(format.toString(), args));
+		}
+	}
+	
+	@Test
+	public void testFuzz()
+	{
+		fuzz(1337);
+	}
+	
+	// Here %d is formatted with Thai digits, so the template has to leave it to String.format.
+	@Test
+	public void testFuzzLocalizedDigits()
+	{
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		try
+		{
+			Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("th-TH-u-nu-thai"));
+			assertEquals(String.format("%d", 5), TxtTemplate.compile("%d").format(5));
+			fuzz(42);
+		}
+		finally
+		{
+			Locale.setDefault(Locale.Category.FORMAT, locale);
+		}
+	}
+	
+	@Test
+	public void testNoArgs()
+	{
+		assertEquals(String.format("§e100%% done%n"), TxtTemplate.compile("§e100%% done%n").format());
+		assertEquals(expected("%s", null), actual("%s", null));
+	}
+	
+}